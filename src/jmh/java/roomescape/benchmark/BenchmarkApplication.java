@@ -0,0 +1,55 @@
+package roomescape.benchmark;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import roomescape.RoomescapeApplication;
+
+final class BenchmarkApplication {
+
+    static final int TIME_COUNT = 24;
+    static final int THEME_COUNT = 50;
+    static final int SLOTS_PER_DAY = TIME_COUNT * THEME_COUNT;
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String databaseName, int volume) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(RoomescapeApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:" + databaseName + ";DB_CLOSE_DELAY=-1",
+                        "spring.sql.init.data-locations=optional:classpath:benchmark-empty.sql",
+                        "spring.h2.console.enabled=false",
+                        "logging.level.root=WARN"
+                )
+                .run();
+        seed(context.getBean(JdbcTemplate.class), volume);
+        return context;
+    }
+
+    static int days(int volume) {
+        return Math.max(1, volume / SLOTS_PER_DAY);
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate, int volume) {
+        jdbcTemplate.update("""
+                INSERT INTO reservation_time (start_at)
+                SELECT CAST(DATEADD('MINUTE', X * 30, TIMESTAMP '2024-01-01 10:00:00') AS TIME)
+                FROM SYSTEM_RANGE(0, ?)
+                """, TIME_COUNT - 1);
+        jdbcTemplate.update("""
+                INSERT INTO theme (name, description, thumbnail)
+                SELECT CONCAT('방탈출', X), CONCAT(X, '번 방탈출'), 'https://i.pinimg.com/236x/6e/bc/46/6ebc461a94a49f9ea3b8bbe2204145d4.jpg'
+                FROM SYSTEM_RANGE(1, ?)
+                """, THEME_COUNT);
+        jdbcTemplate.update("""
+                INSERT INTO reservation (name, date, time_id, theme_id)
+                SELECT '예약자', DATEADD('DAY', X / ?, DATE '2030-01-01'), MOD(X / ?, ?) + 1, MOD(X, ?) + 1
+                FROM SYSTEM_RANGE(0, ?)
+                """, SLOTS_PER_DAY, THEME_COUNT, TIME_COUNT, THEME_COUNT, volume - 1);
+        jdbcTemplate.execute("ANALYZE");
+    }
+}
@@ -0,0 +1,69 @@
+package roomescape.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.ReservationDate;
+import roomescape.domain.reservation.ReservationName;
+import roomescape.domain.reservationtime.ReservationStartAt;
+import roomescape.domain.reservationtime.ReservationTime;
+import roomescape.domain.theme.Theme;
+import roomescape.domain.theme.ThemeDescription;
+import roomescape.domain.theme.ThemeName;
+import roomescape.domain.theme.ThemeThumbnail;
+import roomescape.dto.reservation.ReservationResponse;
+import roomescape.dto.reservationtime.ReservationTimeResponse;
+import roomescape.dto.theme.ThemeResponse;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DomainBenchmark {
+
+    private final String date = "2024-05-05";
+    private final String startAt = "10:00";
+    private final ReservationTime reservationTime = new ReservationTime(1L, ReservationStartAt.from("10:00"));
+    private final Theme theme = new Theme(
+            1L,
+            ThemeName.from("방탈출1"),
+            ThemeDescription.from("1번 방탈출"),
+            ThemeThumbnail.from("https://i.pinimg.com/236x/6e/bc/46/6ebc461a94a49f9ea3b8bbe2204145d4.jpg")
+    );
+    private final Reservation reservation = new Reservation(
+            1L,
+            new ReservationName("다온"),
+            ReservationDate.from("2024-05-05"),
+            reservationTime,
+            theme
+    );
+
+    @Benchmark
+    public ReservationDate parseReservationDate() {
+        return ReservationDate.from(date);
+    }
+
+    @Benchmark
+    public ReservationStartAt parseReservationStartAt() {
+        return ReservationStartAt.from(startAt);
+    }
+
+    @Benchmark
+    public ReservationResponse mapReservationResponse() {
+        return ReservationResponse.from(reservation);
+    }
+
+    @Benchmark
+    public ReservationTimeResponse mapReservationTimeResponse() {
+        return ReservationTimeResponse.from(reservationTime);
+    }
+
+    @Benchmark
+    public ThemeResponse mapThemeResponse() {
+        return ThemeResponse.from(theme);
+    }
+}
@@ -0,0 +1,172 @@
+package roomescape.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class LoadTest {
+
+    private static final Path RESULT_DIRECTORY = Path.of("benchmarks", "results");
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        URI target = URI.create(args[0] + args[1]);
+        int concurrency = Integer.parseInt(args[2]);
+        Duration duration = Duration.ofSeconds(Long.parseLong(args[3]));
+        String label = args[4];
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(target)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        run(client, request, concurrency, WARMUP);
+        Result result = run(client, request, concurrency, duration);
+        String report = result.toJson(label, target, concurrency);
+        System.out.println(report);
+        Files.createDirectories(RESULT_DIRECTORY);
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        Files.writeString(RESULT_DIRECTORY.resolve("load-" + label + "-" + timestamp + ".json"), report);
+    }
+
+    private static Result run(HttpClient client, HttpRequest request, int concurrency, Duration duration)
+            throws InterruptedException {
+        ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+        LatencyRecorder[] recorders = new LatencyRecorder[concurrency];
+        AtomicLong errors = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(concurrency);
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + duration.toNanos();
+        for (int i = 0; i < concurrency; i++) {
+            LatencyRecorder recorder = new LatencyRecorder();
+            recorders[i] = recorder;
+            workers.execute(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        long requestNanos = System.nanoTime();
+                        if (send(client, request)) {
+                            recorder.record(System.nanoTime() - requestNanos);
+                            continue;
+                        }
+                        errors.incrementAndGet();
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        long elapsedNanos = System.nanoTime() - startNanos;
+        workers.shutdown();
+        workers.awaitTermination(1, TimeUnit.MINUTES);
+        return Result.of(recorders, errors.get(), elapsedNanos);
+    }
+
+    private static boolean send(HttpClient client, HttpRequest request) {
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() < 400;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static class LatencyRecorder {
+
+        private long[] latencies = new long[1024];
+        private int size;
+
+        void record(long latencyNanos) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+        }
+    }
+
+    private static class Result {
+
+        private final long[] latencies;
+        private final long errors;
+        private final long elapsedNanos;
+
+        private Result(long[] latencies, long errors, long elapsedNanos) {
+            this.latencies = latencies;
+            this.errors = errors;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        static Result of(LatencyRecorder[] recorders, long errors, long elapsedNanos) {
+            int total = Arrays.stream(recorders)
+                    .mapToInt(recorder -> recorder.size)
+                    .sum();
+            long[] latencies = new long[total];
+            int offset = 0;
+            for (LatencyRecorder recorder : recorders) {
+                System.arraycopy(recorder.latencies, 0, latencies, offset, recorder.size);
+                offset += recorder.size;
+            }
+            Arrays.sort(latencies);
+            return new Result(latencies, errors, elapsedNanos);
+        }
+
+        String toJson(String label, URI target, int concurrency) {
+            double seconds = (double) elapsedNanos / TimeUnit.SECONDS.toNanos(1);
+            return String.format(Locale.ROOT, """
+                            {
+                              "label": "%s",
+                              "target": "%s",
+                              "concurrency": %d,
+                              "requests": %d,
+                              "errors": %d,
+                              "throughputPerSecond": %.1f,
+                              "p50Millis": %.3f,
+                              "p99Millis": %.3f,
+                              "maxMillis": %.3f
+                            }
+                            """,
+                    label,
+                    target,
+                    concurrency,
+                    latencies.length,
+                    errors,
+                    latencies.length / seconds,
+                    percentileMillis(0.50),
+                    percentileMillis(0.99),
+                    percentileMillis(1.0)
+            );
+        }
+
+        private double percentileMillis(double percentile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * latencies.length) - 1;
+            return (double) latencies[Math.max(index, 0)] / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
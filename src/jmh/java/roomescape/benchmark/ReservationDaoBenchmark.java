@@ -0,0 +1,84 @@
+package roomescape.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import roomescape.cache.ThemeReservationCounter;
+import roomescape.dao.JdbcReservationDao;
+import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.ReservationSearchCondition;
+import roomescape.dto.theme.ThemeResponse;
+import roomescape.service.ThemeService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReservationDaoBenchmark {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2030, 1, 1);
+    private static final ReservationSearchCondition FIRST_PAGE =
+            ReservationSearchCondition.of(null, null, null, null, null, null);
+
+    @Param({"10000", "100000", "1000000", "5000000"})
+    private int volume;
+
+    private ConfigurableApplicationContext context;
+    private JdbcReservationDao reservationDao;
+    private ThemeService themeService;
+    private ThemeReservationCounter themeReservationCounter;
+    private int days;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("reservation-dao", volume);
+        reservationDao = context.getBean(JdbcReservationDao.class);
+        themeService = context.getBean(ThemeService.class);
+        themeReservationCounter = context.getBean(ThemeReservationCounter.class);
+        days = BenchmarkApplication.days(volume);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Reservation> readFirstPage() {
+        return reservationDao.readAll(FIRST_PAGE);
+    }
+
+    @Benchmark
+    public Map<Long, Long> readReservationCountsByThemeId() {
+        LocalDate date = FIRST_DATE.plusDays(ThreadLocalRandom.current().nextInt(days));
+        return reservationDao.readReservationCountsByThemeId(date);
+    }
+
+    @Benchmark
+    public List<ThemeResponse> findPopularsCold() {
+        themeReservationCounter.clear();
+        return findPopulars();
+    }
+
+    @Benchmark
+    public List<ThemeResponse> findPopularsWarm() {
+        return findPopulars();
+    }
+
+    private List<ThemeResponse> findPopulars() {
+        LocalDate endDate = FIRST_DATE.plusDays(Math.min(days, 7) - 1);
+        return themeService.findPopulars(endDate.minusDays(6), endDate);
+    }
+}
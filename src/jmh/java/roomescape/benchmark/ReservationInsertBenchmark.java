@@ -0,0 +1,125 @@
+package roomescape.benchmark;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import roomescape.dao.JdbcReservationDao;
+import roomescape.dao.JdbcReservationTimeDao;
+import roomescape.dao.JdbcThemeDao;
+import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.ReservationDate;
+import roomescape.domain.reservation.ReservationName;
+import roomescape.domain.reservationtime.ReservationTime;
+import roomescape.domain.theme.Theme;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class ReservationInsertBenchmark {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2030, 1, 1);
+    private static final String HAS_SAME_SQL = """
+            SELECT
+            CASE
+                WHEN EXISTS (SELECT 1 FROM reservation WHERE date = ? AND time_id = ? AND theme_id = ?)
+                THEN TRUE
+                ELSE FALSE
+            END
+            """;
+
+    @Param({"10000", "1000000"})
+    private int volume;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+    private JdbcReservationDao reservationDao;
+    private ReservationTime[] times;
+    private Theme[] themes;
+    private Reservation booked;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("reservation-insert", volume);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        reservationDao = context.getBean(JdbcReservationDao.class);
+        times = context.getBean(JdbcReservationTimeDao.class).readAll().toArray(ReservationTime[]::new);
+        themes = context.getBean(JdbcThemeDao.class).readAll().toArray(Theme[]::new);
+        booked = toReservation(FIRST_DATE, 0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Reservation checkThenInsert() {
+        Reservation reservation = nextReservation();
+        if (hasSame(reservation)) {
+            throw new IllegalStateException("중복된 예약을 생성할 수 없습니다.");
+        }
+        return reservationDao.create(reservation);
+    }
+
+    @Benchmark
+    public Reservation insertOnly() {
+        return reservationDao.create(nextReservation());
+    }
+
+    @Benchmark
+    public boolean checkDuplicated() {
+        return hasSame(booked);
+    }
+
+    @Benchmark
+    public boolean insertDuplicated() {
+        try {
+            reservationDao.create(booked);
+            return false;
+        } catch (DuplicateKeyException e) {
+            return true;
+        }
+    }
+
+    private boolean hasSame(Reservation reservation) {
+        return jdbcTemplate.queryForObject(
+                HAS_SAME_SQL,
+                boolean.class,
+                reservation.getDate().toStringDate(),
+                reservation.getReservationTime().getId(),
+                reservation.getTheme().getId()
+        );
+    }
+
+    private Reservation nextReservation() {
+        long next = sequence.getAndIncrement();
+        LocalDate date = FIRST_DATE.plusYears(100).plusDays(next / BenchmarkApplication.SLOTS_PER_DAY);
+        return toReservation(date, next % BenchmarkApplication.SLOTS_PER_DAY);
+    }
+
+    private Reservation toReservation(LocalDate date, long slot) {
+        return new Reservation(
+                null,
+                new ReservationName("벤치마크"),
+                ReservationDate.from(date.toString()),
+                times[(int) (slot / BenchmarkApplication.THEME_COUNT)],
+                themes[(int) (slot % BenchmarkApplication.THEME_COUNT)]
+        );
+    }
+}
@@ -0,0 +1,95 @@
+package roomescape.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import roomescape.dao.ReservationRowMapper;
+import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.ReservationDate;
+import roomescape.domain.reservation.ReservationName;
+import roomescape.domain.reservationtime.ReservationStartAt;
+import roomescape.domain.reservationtime.ReservationTime;
+import roomescape.domain.theme.Theme;
+import roomescape.domain.theme.ThemeDescription;
+import roomescape.domain.theme.ThemeName;
+import roomescape.domain.theme.ThemeThumbnail;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReservationRowMapperBenchmark {
+
+    private static final String SQL = """
+            SELECT
+                r.id AS reservation_id,
+                r.name,
+                r.`date`,
+                t.id AS time_id,
+                t.start_at AS time_value,
+                th.id AS theme_id,
+                th.name AS theme_name,
+                th.description AS theme_description,
+                th.thumbnail AS theme_thumbnail
+            FROM
+                reservation r
+            INNER JOIN
+                reservation_time t ON r.time_id = t.id
+            INNER JOIN
+                theme th ON r.theme_id = th.id;
+            """;
+
+    private static final RowMapper<Reservation> PER_ROW_MAPPER = (resultSet, rowNum) -> new Reservation(
+            resultSet.getLong("id"),
+            new ReservationName(resultSet.getString("name")),
+            ReservationDate.from(resultSet.getString("date")),
+            new ReservationTime(
+                    resultSet.getLong("time_id"),
+                    ReservationStartAt.from(resultSet.getString("time_value"))
+            ),
+            new Theme(
+                    resultSet.getLong("theme_id"),
+                    ThemeName.from(resultSet.getString("theme_name")),
+                    ThemeDescription.from(resultSet.getString("theme_description")),
+                    ThemeThumbnail.from(resultSet.getString("theme_thumbnail"))
+            )
+    );
+
+    @Param({"10000", "100000"})
+    private int volume;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("reservation-row-mapper", volume);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Reservation> mapPerRow() {
+        return jdbcTemplate.query(SQL, PER_ROW_MAPPER);
+    }
+
+    @Benchmark
+    public List<Reservation> mapShared() {
+        return jdbcTemplate.query(SQL, new ReservationRowMapper());
+    }
+}
@@ -0,0 +1,70 @@
+package roomescape.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import roomescape.dto.reservation.AvailableReservationResponse;
+import roomescape.dto.reservation.ReservationCreateRequest;
+import roomescape.dto.reservation.ReservationResponse;
+import roomescape.service.ReservationService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReservationServiceBenchmark {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2030, 1, 1);
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Param({"10000", "100000", "1000000", "5000000"})
+    private int volume;
+
+    private ConfigurableApplicationContext context;
+    private ReservationService reservationService;
+    private int days;
+    private final AtomicLong addSequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("reservation-service", volume);
+        reservationService = context.getBean(ReservationService.class);
+        days = BenchmarkApplication.days(volume);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<AvailableReservationResponse> findTimeByDateAndThemeId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String date = FIRST_DATE.plusDays(random.nextInt(days)).toString();
+        long themeId = random.nextInt(BenchmarkApplication.THEME_COUNT) + 1;
+        return reservationService.findTimeByDateAndThemeID(date, themeId, NOW);
+    }
+
+    @Benchmark
+    public ReservationResponse add() {
+        long sequence = addSequence.getAndIncrement();
+        LocalDate date = FIRST_DATE.plusYears(100).plusDays(sequence / BenchmarkApplication.SLOTS_PER_DAY);
+        long timeId = sequence / BenchmarkApplication.THEME_COUNT % BenchmarkApplication.TIME_COUNT + 1;
+        long themeId = sequence % BenchmarkApplication.THEME_COUNT + 1;
+        ReservationCreateRequest request = ReservationCreateRequest.of("벤치마크", date.toString(), timeId, themeId);
+        return reservationService.add(request, NOW);
+    }
+}
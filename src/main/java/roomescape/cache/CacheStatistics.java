@@ -0,0 +1,43 @@
+package roomescape.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class CacheStatistics {
+
+    private final String name;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public CacheStatistics(String name) {
+        this.name = name;
+    }
+
+    public void recordHit() {
+        hitCount.increment();
+    }
+
+    public void recordMiss() {
+        missCount.increment();
+    }
+
+    public void recordEviction() {
+        evictionCount.increment();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+}
@@ -0,0 +1,123 @@
+package roomescape.cache;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import roomescape.dao.JdbcReservationTimeDao;
+import roomescape.dao.ReservationTimeDao;
+import roomescape.domain.reservationtime.ReservationTime;
+import roomescape.domain.reservationtime.ReservationTimeCatalog;
+
+@Primary
+@Repository
+public class CachedReservationTimeDao implements ReservationTimeDao {
+
+    private final JdbcReservationTimeDao reservationTimeDao;
+    private final CacheStatistics statistics = new CacheStatistics("reservationTime");
+    private final AtomicLong version = new AtomicLong();
+    private volatile ReservationTimeCatalog catalog;
+
+    public CachedReservationTimeDao(JdbcReservationTimeDao reservationTimeDao) {
+        this.reservationTimeDao = reservationTimeDao;
+    }
+
+    @Override
+    public List<ReservationTime> readAll() {
+        return getCatalog().findAll();
+    }
+
+    @Override
+    public ReservationTimeCatalog readCatalog() {
+        return getCatalog();
+    }
+
+    @Override
+    public Optional<ReservationTime> readById(long id) {
+        return getCatalog().findById(id);
+    }
+
+    @Override
+    public ReservationTime create(ReservationTime reservationTime) {
+        ReservationTime result = reservationTimeDao.create(reservationTime);
+        synchronized (this) {
+            version.incrementAndGet();
+            if (catalog != null) {
+                catalog = catalog.add(result);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<ReservationTime> createAll(List<ReservationTime> reservationTimes) {
+        List<ReservationTime> results = reservationTimeDao.createAll(reservationTimes);
+        synchronized (this) {
+            version.incrementAndGet();
+            if (catalog != null) {
+                catalog = catalog.addAll(results);
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public boolean exist(long id) {
+        return getCatalog().contains(id);
+    }
+
+    @Override
+    public boolean exist(ReservationTime reservationTime) {
+        return getCatalog().contains(reservationTime.getStartAt());
+    }
+
+    @Override
+    public int deleteIfNotReferenced(long id) {
+        int deletedCount = reservationTimeDao.deleteIfNotReferenced(id);
+        if (deletedCount > 0) {
+            remove(id);
+        }
+        return deletedCount;
+    }
+
+    public void invalidate() {
+        synchronized (this) {
+            version.incrementAndGet();
+            if (catalog != null) {
+                catalog = null;
+                statistics.recordEviction();
+            }
+        }
+    }
+
+    public CacheStatistics getStatistics() {
+        return statistics;
+    }
+
+    private ReservationTimeCatalog getCatalog() {
+        ReservationTimeCatalog current = catalog;
+        if (current != null) {
+            statistics.recordHit();
+            return current;
+        }
+        statistics.recordMiss();
+        long loadingVersion = version.get();
+        ReservationTimeCatalog loaded = ReservationTimeCatalog.from(reservationTimeDao.readAll());
+        synchronized (this) {
+            if (version.get() == loadingVersion) {
+                catalog = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    private void remove(long id) {
+        synchronized (this) {
+            version.incrementAndGet();
+            if (catalog != null) {
+                catalog = catalog.remove(id);
+            }
+        }
+    }
+}
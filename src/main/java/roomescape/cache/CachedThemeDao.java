@@ -0,0 +1,92 @@
+package roomescape.cache;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import roomescape.dao.JdbcThemeDao;
+import roomescape.dao.ThemeDao;
+import roomescape.domain.theme.Theme;
+import roomescape.domain.theme.ThemeCatalog;
+
+@Primary
+@Repository
+public class CachedThemeDao implements ThemeDao {
+
+    private final JdbcThemeDao themeDao;
+    private final CacheStatistics statistics = new CacheStatistics("theme");
+    private final AtomicLong version = new AtomicLong();
+    private volatile ThemeCatalog catalog;
+
+    public CachedThemeDao(JdbcThemeDao themeDao) {
+        this.themeDao = themeDao;
+    }
+
+    @Override
+    public List<Theme> readAll() {
+        return getCatalog().findAll();
+    }
+
+    @Override
+    public Optional<Theme> readById(Long id) {
+        return getCatalog().findById(id);
+    }
+
+    @Override
+    public Theme create(Theme theme) {
+        Theme result = themeDao.create(theme);
+        invalidate();
+        return result;
+    }
+
+    @Override
+    public boolean exist(long id) {
+        return getCatalog().contains(id);
+    }
+
+    @Override
+    public boolean exist(String name) {
+        return getCatalog().contains(name);
+    }
+
+    @Override
+    public int deleteIfNotReferenced(long id) {
+        int deletedCount = themeDao.deleteIfNotReferenced(id);
+        if (deletedCount > 0) {
+            invalidate();
+        }
+        return deletedCount;
+    }
+
+    public void invalidate() {
+        synchronized (this) {
+            version.incrementAndGet();
+            if (catalog != null) {
+                catalog = null;
+                statistics.recordEviction();
+            }
+        }
+    }
+
+    public CacheStatistics getStatistics() {
+        return statistics;
+    }
+
+    private ThemeCatalog getCatalog() {
+        ThemeCatalog current = catalog;
+        if (current != null) {
+            statistics.recordHit();
+            return current;
+        }
+        statistics.recordMiss();
+        long loadingVersion = version.get();
+        ThemeCatalog loaded = ThemeCatalog.from(themeDao.readAll());
+        synchronized (this) {
+            if (version.get() == loadingVersion) {
+                catalog = loaded;
+            }
+        }
+        return loaded;
+    }
+}
@@ -0,0 +1,38 @@
+package roomescape.cache;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ContentVersions {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final AtomicLong themeVersion = new AtomicLong();
+    private final AtomicLong reservationTimeVersion = new AtomicLong();
+    private final AtomicLong reservationVersion = new AtomicLong();
+
+    public void increaseThemeVersion() {
+        themeVersion.incrementAndGet();
+    }
+
+    public void increaseReservationTimeVersion() {
+        reservationTimeVersion.incrementAndGet();
+    }
+
+    public void increaseReservationVersion() {
+        reservationVersion.incrementAndGet();
+    }
+
+    public String getThemeTag() {
+        return "themes-" + epoch + "-" + themeVersion.get();
+    }
+
+    public String getReservationTimeTag() {
+        return "times-" + epoch + "-" + reservationTimeVersion.get();
+    }
+
+    public String getPopularThemeTag(LocalDate today) {
+        return "populars-" + today + "-" + epoch + "-" + themeVersion.get() + "-" + reservationVersion.get();
+    }
+}
@@ -0,0 +1,42 @@
+package roomescape.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ReservationWriteTracker {
+
+    private static final long WRITE_IN_PROGRESS = -1L;
+
+    private final AtomicLong startedWrites = new AtomicLong();
+    private final AtomicLong finishedWrites = new AtomicLong();
+
+    public <T> T call(Supplier<T> write) {
+        startedWrites.incrementAndGet();
+        try {
+            return write.get();
+        } finally {
+            finishedWrites.incrementAndGet();
+        }
+    }
+
+    public void run(Runnable write) {
+        call(() -> {
+            write.run();
+            return null;
+        });
+    }
+
+    long stamp() {
+        long started = startedWrites.get();
+        if (finishedWrites.get() != started) {
+            return WRITE_IN_PROGRESS;
+        }
+        return started;
+    }
+
+    boolean isUnchangedSince(long stamp) {
+        return stamp != WRITE_IN_PROGRESS && startedWrites.get() == stamp;
+    }
+}
@@ -0,0 +1,99 @@
+package roomescape.cache;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.stereotype.Component;
+import roomescape.dao.ReservationDao;
+import roomescape.dao.ReservationTimeDao;
+import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.ReservationDate;
+import roomescape.domain.reservation.ReservationSlot;
+import roomescape.domain.reservation.SlotKey;
+import roomescape.domain.reservation.SlotOccupancy;
+
+@Component
+public class SlotOccupancyIndex {
+
+    private static final int CACHED_DAYS = 31;
+    private static final int VERSION_STRIPES = 1024;
+
+    private final ReservationDao reservationDao;
+    private final ReservationTimeDao reservationTimeDao;
+    private final Map<SlotKey, SlotOccupancy> occupancies = new ConcurrentHashMap<>();
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private volatile LocalDate evictedBefore = LocalDate.MIN;
+
+    public SlotOccupancyIndex(ReservationDao reservationDao, ReservationTimeDao reservationTimeDao) {
+        this.reservationDao = reservationDao;
+        this.reservationTimeDao = reservationTimeDao;
+    }
+
+    public SlotOccupancy find(ReservationDate date, Long themeId, LocalDate today) {
+        evictPastDates(today);
+        SlotKey key = new SlotKey(date.getValue(), themeId);
+        SlotOccupancy cached = occupancies.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        int stripe = stripeOf(key);
+        long stamp = versions.get(stripe);
+        SlotOccupancy loaded = SlotOccupancy.of(
+                reservationTimeDao.readCatalog(),
+                reservationDao.readBookedTimeIds(date, themeId)
+        );
+        if (!isCacheable(key.getDate(), today)) {
+            return loaded;
+        }
+        SlotOccupancy result = occupancies.compute(key, (k, existing) -> {
+            if (existing != null || versions.get(stripe) != stamp) {
+                return existing;
+            }
+            return loaded;
+        });
+        return Objects.requireNonNullElse(result, loaded);
+    }
+
+    private boolean isCacheable(LocalDate date, LocalDate today) {
+        return !date.isBefore(today) && !date.isAfter(today.plusDays(CACHED_DAYS));
+    }
+
+    private void evictPastDates(LocalDate today) {
+        if (!today.isAfter(evictedBefore)) {
+            return;
+        }
+        evictedBefore = today;
+        occupancies.keySet().removeIf(key -> key.getDate().isBefore(today));
+    }
+
+    public void book(Reservation reservation) {
+        SlotKey slotKey = SlotKey.from(reservation);
+        versions.incrementAndGet(stripeOf(slotKey));
+        occupancies.computeIfPresent(
+                slotKey,
+                (key, occupancy) -> occupancy.book(reservation.getReservationTime().getId())
+        );
+    }
+
+    public void cancel(ReservationSlot slot) {
+        SlotKey slotKey = SlotKey.from(slot);
+        versions.incrementAndGet(stripeOf(slotKey));
+        occupancies.computeIfPresent(
+                slotKey,
+                (key, occupancy) -> occupancy.cancel(slot.getTimeId())
+        );
+    }
+
+    public void clear() {
+        for (int stripe = 0; stripe < VERSION_STRIPES; stripe++) {
+            versions.incrementAndGet(stripe);
+        }
+        occupancies.clear();
+    }
+
+    private int stripeOf(SlotKey key) {
+        return Math.floorMod(key.hashCode(), VERSION_STRIPES);
+    }
+}
@@ -0,0 +1,88 @@
+package roomescape.cache;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+import roomescape.dao.ReservationDao;
+import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.ReservationSlot;
+import roomescape.domain.theme.DailyThemeCounts;
+
+@Component
+public class ThemeReservationCounter {
+
+    private static final Comparator<Entry<Long, Long>> POPULARITY_ORDER =
+            Entry.<Long, Long>comparingByValue().reversed()
+                    .thenComparing(Entry.comparingByKey());
+
+    private final ReservationDao reservationDao;
+    private final ReservationWriteTracker writeTracker;
+    private final Map<LocalDate, DailyThemeCounts> dailyCounts = new ConcurrentHashMap<>();
+    private volatile LocalDate evictedBefore = LocalDate.MIN;
+
+    public ThemeReservationCounter(ReservationDao reservationDao, ReservationWriteTracker writeTracker) {
+        this.reservationDao = reservationDao;
+        this.writeTracker = writeTracker;
+    }
+
+    public List<Long> findPopularThemeIds(LocalDate startDate, LocalDate endDate, int limit) {
+        evictDaysBefore(startDate);
+        Map<Long, Long> totals = new HashMap<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            findDailyCounts(date).addTo(totals);
+        }
+        return totals.entrySet().stream()
+                .sorted(POPULARITY_ORDER)
+                .limit(limit)
+                .map(Entry::getKey)
+                .toList();
+    }
+
+    private DailyThemeCounts findDailyCounts(LocalDate date) {
+        DailyThemeCounts cached = dailyCounts.get(date);
+        if (cached != null) {
+            return cached;
+        }
+        long stamp = writeTracker.stamp();
+        DailyThemeCounts loaded = DailyThemeCounts.from(reservationDao.readReservationCountsByThemeId(date));
+        DailyThemeCounts result = dailyCounts.compute(date, (key, existing) -> {
+            if (existing != null || !writeTracker.isUnchangedSince(stamp)) {
+                return existing;
+            }
+            return loaded;
+        });
+        return Objects.requireNonNullElse(result, loaded);
+    }
+
+    private void evictDaysBefore(LocalDate startDate) {
+        if (!startDate.isAfter(evictedBefore)) {
+            return;
+        }
+        evictedBefore = startDate;
+        dailyCounts.keySet().removeIf(date -> date.isBefore(startDate));
+    }
+
+    public void increase(Reservation reservation) {
+        dailyCounts.computeIfPresent(
+                reservation.getDate().getValue(),
+                (date, counts) -> counts.increase(reservation.getTheme().getId())
+        );
+    }
+
+    public void decrease(ReservationSlot slot) {
+        dailyCounts.computeIfPresent(
+                slot.getDate(),
+                (date, counts) -> counts.decrease(slot.getThemeId())
+        );
+    }
+
+    public void clear() {
+        writeTracker.run(dailyCounts::clear);
+    }
+}
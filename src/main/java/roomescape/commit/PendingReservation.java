@@ -0,0 +1,92 @@
+package roomescape.commit;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.ReservationSlot;
+
+class PendingReservation {
+
+    private static final String TIMEOUT_MESSAGE = "예약 접수 대기 시간을 초과했습니다. 잠시 후 다시 시도해주세요.";
+    private static final String INTERRUPTED_MESSAGE = "예약 접수 대기 중 중단되었습니다.";
+
+    private final Reservation reservation;
+    private final ReservationSlot slot;
+    private final CompletableFuture<Reservation> result = new CompletableFuture<>();
+    private final AtomicBoolean claimed = new AtomicBoolean();
+
+    PendingReservation(Reservation reservation) {
+        this.reservation = reservation;
+        this.slot = ReservationSlot.from(reservation);
+    }
+
+    Reservation getReservation() {
+        return reservation;
+    }
+
+    ReservationSlot getSlot() {
+        return slot;
+    }
+
+    boolean claim() {
+        return claimed.compareAndSet(false, true);
+    }
+
+    void complete(Reservation created) {
+        result.complete(created);
+    }
+
+    void fail(RuntimeException e) {
+        result.completeExceptionally(e);
+    }
+
+    Reservation await(long timeoutNanos) {
+        try {
+            return result.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (TimeoutException e) {
+            abandonUnlessClaimed(TIMEOUT_MESSAGE);
+            return awaitClaimedResult(false);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abandonUnlessClaimed(INTERRUPTED_MESSAGE);
+            Thread.interrupted();
+            return awaitClaimedResult(true);
+        }
+    }
+
+    private void abandonUnlessClaimed(String message) {
+        if (claim()) {
+            throw new ReservationCommitException(message);
+        }
+    }
+
+    private Reservation awaitClaimedResult(boolean interrupted) {
+        try {
+            while (true) {
+                try {
+                    return result.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    throw unwrap(e);
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private RuntimeException unwrap(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+            return cause;
+        }
+        return new IllegalStateException(e.getCause());
+    }
+}
@@ -0,0 +1,8 @@
+package roomescape.commit;
+
+public class ReservationCommitException extends RuntimeException {
+
+    public ReservationCommitException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,188 @@
+package roomescape.commit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import roomescape.dao.ReservationDao;
+import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.ReservationSlot;
+
+@Component
+public class ReservationGroupCommitter {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationGroupCommitter.class);
+    private static final String CONFLICT_MESSAGE = "같은 날짜, 시간, 테마의 예약이 먼저 접수되었습니다.";
+    private static final String STOPPED_MESSAGE = "예약 접수가 중단되었습니다.";
+
+    private final ReservationDao reservationDao;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long maxDelayNanos;
+    private final int maxBatchSize;
+    private final long awaitTimeoutNanos;
+    private final BlockingQueue<PendingReservation> queue;
+    private volatile Thread worker;
+    private volatile boolean running;
+
+    public ReservationGroupCommitter(ReservationDao reservationDao,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${reservation.group-commit.enabled}") boolean enabled,
+                                     @Value("${reservation.group-commit.max-delay-millis}") long maxDelayMillis,
+                                     @Value("${reservation.group-commit.max-batch-size}") int maxBatchSize,
+                                     @Value("${reservation.group-commit.queue-capacity}") int queueCapacity,
+                                     @Value("${reservation.group-commit.await-timeout-millis}") long awaitTimeoutMillis) {
+        this.reservationDao = reservationDao;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+        this.maxBatchSize = maxBatchSize;
+        this.awaitTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(awaitTimeoutMillis);
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (enabled) {
+            running = true;
+            startWorker();
+        }
+    }
+
+    private void startWorker() {
+        Thread thread = new Thread(this::run, "reservation-group-commit");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    public Reservation create(Reservation reservation) {
+        if (!enabled) {
+            return reservationDao.create(reservation);
+        }
+        PendingReservation pending = new PendingReservation(reservation);
+        if (!queue.offer(pending)) {
+            log.debug("그룹 커밋 대기열이 가득 차서 예약을 바로 저장합니다.");
+            return reservationDao.create(reservation);
+        }
+        if (!running && queue.remove(pending)) {
+            throw new ReservationCommitException(STOPPED_MESSAGE);
+        }
+        return pending.await(awaitTimeoutNanos);
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+        List<PendingReservation> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(pending -> pending.fail(new ReservationCommitException(STOPPED_MESSAGE)));
+    }
+
+    private void run() {
+        List<PendingReservation> batch = new ArrayList<>(maxBatchSize);
+        try {
+            while (running) {
+                collect(batch);
+                commit(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            batch.forEach(pending -> pending.fail(new ReservationCommitException(STOPPED_MESSAGE)));
+            if (running) {
+                log.error("그룹 커밋 작업 스레드가 종료되어 다시 시작합니다.");
+                startWorker();
+            }
+        }
+    }
+
+    private void collect(List<PendingReservation> batch) throws InterruptedException {
+        batch.add(queue.take());
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < maxBatchSize) {
+            PendingReservation next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void commit(List<PendingReservation> batch) {
+        List<PendingReservation> accepted;
+        try {
+            accepted = rejectConflicts(batch);
+        } catch (RuntimeException e) {
+            batch.forEach(pending -> pending.fail(e));
+            return;
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+        List<Reservation> reservations = accepted.stream()
+                .map(PendingReservation::getReservation)
+                .toList();
+        try {
+            List<Reservation> created = transactionTemplate.execute(status -> reservationDao.createAll(reservations));
+            for (int i = 0; i < accepted.size(); i++) {
+                accepted.get(i).complete(created.get(i));
+            }
+        } catch (DuplicateKeyException e) {
+            log.debug("그룹 커밋 중 중복 예약이 발생하여 개별 저장합니다. (batchSize={})", accepted.size());
+            accepted.forEach(this::createIndividually);
+        } catch (RuntimeException e) {
+            accepted.forEach(pending -> pending.fail(e));
+        }
+    }
+
+    private List<PendingReservation> rejectConflicts(List<PendingReservation> batch) {
+        Set<LocalDate> dates = batch.stream()
+                .map(pending -> pending.getSlot().getDate())
+                .collect(Collectors.toSet());
+        Set<Long> themeIds = batch.stream()
+                .map(pending -> pending.getSlot().getThemeId())
+                .collect(Collectors.toSet());
+        Set<ReservationSlot> bookedSlots = new HashSet<>(reservationDao.readSlots(dates, themeIds));
+        List<PendingReservation> accepted = new ArrayList<>(batch.size());
+        for (PendingReservation pending : batch) {
+            if (!pending.claim()) {
+                continue;
+            }
+            if (!bookedSlots.add(pending.getSlot())) {
+                pending.fail(new DuplicateKeyException(CONFLICT_MESSAGE));
+                continue;
+            }
+            accepted.add(pending);
+        }
+        return accepted;
+    }
+
+    private void createIndividually(PendingReservation pending) {
+        try {
+            pending.complete(reservationDao.create(pending.getReservation()));
+        } catch (RuntimeException e) {
+            pending.fail(e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package roomescape.controller;
+
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import roomescape.dto.cache.CacheStatisticsResponse;
+import roomescape.service.CacheStatisticsService;
+
+@RestController
+@RequestMapping("/caches")
+public class CacheStatisticsController {
+
+    private final CacheStatisticsService cacheStatisticsService;
+
+    public CacheStatisticsController(CacheStatisticsService cacheStatisticsService) {
+        this.cacheStatisticsService = cacheStatisticsService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<CacheStatisticsResponse>> readAll() {
+        return ResponseEntity.ok(cacheStatisticsService.findAll());
+    }
+}
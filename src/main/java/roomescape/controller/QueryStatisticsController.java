@@ -0,0 +1,25 @@
+package roomescape.controller;
+
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import roomescape.dto.query.QueryStatisticsResponse;
+import roomescape.service.QueryStatisticsService;
+
+@RestController
+@RequestMapping("/queries")
+public class QueryStatisticsController {
+
+    private final QueryStatisticsService queryStatisticsService;
+
+    public QueryStatisticsController(QueryStatisticsService queryStatisticsService) {
+        this.queryStatisticsService = queryStatisticsService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<QueryStatisticsResponse>> readAll() {
+        return ResponseEntity.ok(queryStatisticsService.findAll());
+    }
+}
@@ -1,21 +1,40 @@
 package roomescape.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import roomescape.domain.reservation.ReservationExportFormat;
 import roomescape.dto.reservation.AvailableReservationResponse;
+import roomescape.dto.reservation.AvailableThemeResponse;
+import roomescape.dto.reservation.AvailableThemeSearchRequest;
+import roomescape.dto.reservation.CompactReservationListResponse;
+import roomescape.dto.reservation.ReservationBatchCreateRequest;
+import roomescape.dto.reservation.ReservationBatchResponse;
+import roomescape.dto.reservation.ReservationCalendarRequest;
+import roomescape.dto.reservation.ReservationCalendarResponse;
 import roomescape.dto.reservation.ReservationCreateRequest;
 import roomescape.dto.reservation.ReservationResponse;
+import roomescape.dto.reservation.ReservationSearchRequest;
+import roomescape.idempotency.ReservationIdempotencyStore;
+import roomescape.service.ReservationExportService;
 import roomescape.service.ReservationService;
 
 @RestController
@@ -23,16 +42,60 @@ import roomescape.service.ReservationService;
 public class ReservationController {
 
     private static final ZoneId KST_ZONE = ZoneId.of("Asia/Seoul");
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
 
     private final ReservationService reservationService;
+    private final ReservationExportService reservationExportService;
+    private final ReservationIdempotencyStore reservationIdempotencyStore;
 
-    public ReservationController(ReservationService reservationService) {
+    public ReservationController(ReservationService reservationService,
+                                 ReservationExportService reservationExportService,
+                                 ReservationIdempotencyStore reservationIdempotencyStore) {
         this.reservationService = reservationService;
+        this.reservationExportService = reservationExportService;
+        this.reservationIdempotencyStore = reservationIdempotencyStore;
     }
 
     @GetMapping
-    public ResponseEntity<List<ReservationResponse>> readAll() {
-        return ResponseEntity.ok(reservationService.findAll());
+    public ResponseEntity<List<ReservationResponse>> readAll(@RequestParam(required = false) Long lastId,
+                                                             @RequestParam(required = false) Integer size,
+                                                             @RequestParam(required = false) String dateFrom,
+                                                             @RequestParam(required = false) String dateTo,
+                                                             @RequestParam(required = false) Long themeId,
+                                                             @RequestParam(required = false) Long timeId) {
+        ReservationSearchRequest request = ReservationSearchRequest.of(
+                lastId, size, dateFrom, dateTo, themeId, timeId
+        );
+        return ResponseEntity.ok(reservationService.findAll(request));
+    }
+
+    @GetMapping(params = "view=compact")
+    public ResponseEntity<CompactReservationListResponse> readAllCompact(@RequestParam(required = false) Long lastId,
+                                                                         @RequestParam(required = false) Integer size,
+                                                                         @RequestParam(required = false) String dateFrom,
+                                                                         @RequestParam(required = false) String dateTo,
+                                                                         @RequestParam(required = false) Long themeId,
+                                                                         @RequestParam(required = false) Long timeId) {
+        ReservationSearchRequest request = ReservationSearchRequest.of(
+                lastId, size, dateFrom, dateTo, themeId, timeId
+        );
+        return ResponseEntity.ok(reservationService.findAllCompact(request));
+    }
+
+    @GetMapping("/export")
+    public void export(@RequestParam(required = false) String format,
+                       HttpServletResponse response) throws IOException {
+        ReservationExportFormat exportFormat = ReservationExportFormat.from(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(
+                HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment()
+                        .filename("reservations." + exportFormat.getExtension())
+                        .build()
+                        .toString()
+        );
+        reservationExportService.export(exportFormat, response.getOutputStream());
     }
 
     @GetMapping("/available-times")
@@ -42,11 +105,59 @@ public class ReservationController {
         return ResponseEntity.ok(reservationService.findTimeByDateAndThemeID(date, themeId, now));
     }
 
+    @GetMapping("/available-themes")
+    public ResponseEntity<List<AvailableThemeResponse>> readAvailableThemes(@RequestParam String date,
+                                                                            @RequestParam(required = false) String from,
+                                                                            @RequestParam(required = false) String to) {
+        LocalDateTime now = LocalDateTime.now(KST_ZONE);
+        AvailableThemeSearchRequest request = AvailableThemeSearchRequest.of(date, from, to);
+        return ResponseEntity.ok(reservationService.findAvailableThemes(request, now));
+    }
+
+    @GetMapping(value = "/slot-events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeSlotChanges(@RequestParam String date, @RequestParam Long themeId) {
+        return reservationService.subscribeSlotChanges(date, themeId);
+    }
+
+    @GetMapping("/calendar")
+    public ResponseEntity<ReservationCalendarResponse> readCalendar(@RequestParam Long themeId,
+                                                                    @RequestParam(required = false) String month,
+                                                                    @RequestParam(required = false) String startDate,
+                                                                    @RequestParam(required = false) String endDate) {
+        LocalDateTime now = LocalDateTime.now(KST_ZONE);
+        ReservationCalendarRequest request = ReservationCalendarRequest.of(themeId, month, startDate, endDate);
+        return ResponseEntity.ok(reservationService.findCalendar(request, now));
+    }
+
     @PostMapping
-    public ResponseEntity<ReservationResponse> create(@RequestBody ReservationCreateRequest request) {
+    public ResponseEntity<ReservationResponse> create(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody ReservationCreateRequest request) {
         LocalDateTime now = LocalDateTime.now(KST_ZONE);
+        if (idempotencyKey == null) {
+            return ResponseEntity.created(URI.create("/reservations"))
+                    .body(reservationService.add(request, now));
+        }
+        ReservationResponse response = reservationIdempotencyStore.execute(
+                idempotencyKey,
+                request,
+                () -> reservationService.findCreated(request),
+                () -> reservationService.add(request, now)
+        );
         return ResponseEntity.created(URI.create("/reservations"))
-                .body(reservationService.add(request, now));
+                .body(response);
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<ReservationBatchResponse> createAll(@RequestBody ReservationBatchCreateRequest request) {
+        LocalDateTime now = LocalDateTime.now(KST_ZONE);
+        ReservationBatchResponse response = reservationService.addAll(request, now);
+        if (response.hasCreated()) {
+            return ResponseEntity.created(URI.create("/reservations"))
+                    .body(response);
+        }
+        return ResponseEntity.badRequest()
+                .body(response);
     }
 
     @DeleteMapping("/{id}")
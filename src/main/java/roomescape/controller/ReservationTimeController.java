@@ -2,6 +2,8 @@ package roomescape.controller;
 
 import java.net.URI;
 import java.util.List;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,6 +12,8 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import roomescape.dto.reservationtime.ReservationTimeBulkCreateRequest;
 import roomescape.dto.reservationtime.ReservationTimeCreateRequest;
 import roomescape.dto.reservationtime.ReservationTimeResponse;
 import roomescape.service.ReservationTimeService;
@@ -25,8 +29,18 @@ public class ReservationTimeController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ReservationTimeResponse>> readAll() {
-        return ResponseEntity.ok(reservationTimeService.findAll());
+    public ResponseEntity<List<ReservationTimeResponse>> readAll(WebRequest webRequest) {
+        String eTag = reservationTimeService.getVersionTag();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(reservationTimeService.findAll());
     }
 
     @PostMapping
@@ -36,6 +50,13 @@ public class ReservationTimeController {
                 .body(result);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<List<ReservationTimeResponse>> createAll(
+            @RequestBody ReservationTimeBulkCreateRequest request) {
+        return ResponseEntity.created(URI.create("/times"))
+                .body(reservationTimeService.addAll(request));
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
         reservationTimeService.delete(id);
@@ -0,0 +1,42 @@
+package roomescape.controller;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import roomescape.dto.reservation.SlotHoldCreateRequest;
+import roomescape.dto.reservation.SlotHoldResponse;
+import roomescape.service.SlotHoldService;
+
+@RestController
+@RequestMapping("/reservations/holds")
+public class SlotHoldController {
+
+    private static final ZoneId KST_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final SlotHoldService slotHoldService;
+
+    public SlotHoldController(SlotHoldService slotHoldService) {
+        this.slotHoldService = slotHoldService;
+    }
+
+    @PostMapping
+    public ResponseEntity<SlotHoldResponse> create(@RequestBody SlotHoldCreateRequest request) {
+        LocalDateTime now = LocalDateTime.now(KST_ZONE);
+        SlotHoldResponse response = slotHoldService.hold(request, now);
+        return ResponseEntity.created(URI.create("/reservations/holds/" + response.getToken()))
+                .body(response);
+    }
+
+    @DeleteMapping("/{token}")
+    public ResponseEntity<Void> delete(@PathVariable String token) {
+        slotHoldService.release(token);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,9 +1,13 @@
 package roomescape.controller;
 
 import java.net.URI;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,6 +16,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import roomescape.dto.theme.ThemeCreateRequest;
 import roomescape.dto.theme.ThemeResponse;
 import roomescape.service.ThemeService;
@@ -29,16 +34,39 @@ public class ThemeController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ThemeResponse>> readAll() {
-        return ResponseEntity.ok(themeService.findAll());
+    public ResponseEntity<List<ThemeResponse>> readAll(WebRequest webRequest) {
+        String eTag = themeService.getVersionTag();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(themeService.findAll());
     }
 
     @GetMapping("/populars")
-    public ResponseEntity<List<ThemeResponse>> readPopularThemes() {
-        LocalDate today = LocalDate.now(KST_ZONE);
+    public ResponseEntity<List<ThemeResponse>> readPopularThemes(WebRequest webRequest) {
+        LocalDateTime now = LocalDateTime.now(KST_ZONE);
+        LocalDate today = now.toLocalDate();
+        String eTag = themeService.getPopularVersionTag(today);
+        CacheControl cacheControl = CacheControl.maxAge(Duration.between(now, today.plusDays(1).atStartOfDay()))
+                .cachePublic();
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
         LocalDate from = today.minusWeeks(1);
         LocalDate to = today.minusDays(1);
-        return ResponseEntity.ok(themeService.findPopulars(from, to));
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControl)
+                .body(themeService.findPopulars(from, to));
     }
 
     @PostMapping
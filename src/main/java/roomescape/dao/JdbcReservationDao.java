@@ -6,26 +6,32 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import roomescape.domain.reservation.Reservation;
 import roomescape.domain.reservation.ReservationDate;
-import roomescape.domain.reservation.ReservationName;
-import roomescape.domain.reservationtime.ReservationStartAt;
-import roomescape.domain.reservationtime.ReservationTime;
-import roomescape.domain.theme.Theme;
-import roomescape.domain.theme.ThemeDescription;
-import roomescape.domain.theme.ThemeName;
-import roomescape.domain.theme.ThemeThumbnail;
+import roomescape.domain.reservation.ReservationPeriod;
+import roomescape.domain.reservation.ReservationSearchCondition;
+import roomescape.domain.reservation.ReservationSlot;
 
 @Repository
 public class JdbcReservationDao implements ReservationDao {
 
+    private static final int STREAM_FETCH_SIZE = 500;
+
     private final JdbcTemplate jdbcTemplate;
 
     public JdbcReservationDao(JdbcTemplate jdbcTemplate) {
@@ -33,8 +39,8 @@ public class JdbcReservationDao implements ReservationDao {
     }
 
     @Override
-    public List<Reservation> readAll() {
-        String sql = """
+    public List<Reservation> readAll(ReservationSearchCondition condition) {
+        StringBuilder sql = new StringBuilder("""
                 SELECT
                     r.id AS reservation_id,
                     r.name,
@@ -50,16 +56,39 @@ public class JdbcReservationDao implements ReservationDao {
                 INNER JOIN
                     reservation_time t ON r.time_id = t.id
                 INNER JOIN
-                    theme th ON r.theme_id = th.id;
-                """;
+                    theme th ON r.theme_id = th.id
+                WHERE r.id > ?
+                """);
+        List<Object> args = new ArrayList<>();
+        args.add(condition.getLastId());
+        if (condition.hasDateFrom()) {
+            sql.append("AND r.`date` >= ?\n");
+            args.add(condition.getDateFrom().toStringDate());
+        }
+        if (condition.hasDateTo()) {
+            sql.append("AND r.`date` <= ?\n");
+            args.add(condition.getDateTo().toStringDate());
+        }
+        if (condition.hasThemeId()) {
+            sql.append("AND r.theme_id = ?\n");
+            args.add(condition.getThemeId());
+        }
+        if (condition.hasTimeId()) {
+            sql.append("AND r.time_id = ?\n");
+            args.add(condition.getTimeId());
+        }
+        sql.append("ORDER BY r.id\n");
+        sql.append("LIMIT ?");
+        args.add(condition.getSize());
         return jdbcTemplate.query(
-                sql,
-                (resultSet, rowNum) -> getReservation(resultSet, getReservationTime(resultSet), getTheme(resultSet))
+                sql.toString(),
+                new ReservationRowMapper(),
+                args.toArray()
         );
     }
 
     @Override
-    public Optional<Reservation> readById(Long id) {
+    public void streamAll(Consumer<Reservation> consumer) {
         String sql = """
                 SELECT
                     r.id AS reservation_id,
@@ -77,64 +106,136 @@ public class JdbcReservationDao implements ReservationDao {
                     reservation_time t ON r.time_id = t.id
                 INNER JOIN
                     theme th ON r.theme_id = th.id
-                WHERE r.id = ?
+                ORDER BY r.id
                 """;
-        List<Reservation> reservations = jdbcTemplate.query(
-                sql,
-                (resultSet, rowNum) -> getReservation(resultSet, getReservationTime(resultSet), getTheme(resultSet)),
-                id
+        ReservationRowMapper rowMapper = new ReservationRowMapper();
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement ps = connection.prepareStatement(
+                            sql,
+                            ResultSet.TYPE_FORWARD_ONLY,
+                            ResultSet.CONCUR_READ_ONLY
+                    );
+                    ps.setFetchSize(STREAM_FETCH_SIZE);
+                    return ps;
+                },
+                resultSet -> {
+                    consumer.accept(rowMapper.mapRow(resultSet, resultSet.getRow()));
+                }
         );
-        if (reservations.isEmpty()) {
-            return Optional.empty();
-        }
-        return Optional.of(reservations.get(0));
     }
 
     @Override
-    public List<ReservationTime> readTimesByDateAndThemeId(ReservationDate reservationDate, Long themeId) {
+    public List<Long> readBookedTimeIds(ReservationDate reservationDate, Long themeId) {
         String sql = """
                 SELECT
-                    t.id AS time_id,
-                    t.start_at AS time_value,
-                FROM
-                    reservation r
-                INNER JOIN
-                    reservation_time t ON r.time_id = t.id
-                WHERE r.`date` = ? AND r.theme_id = ?
+                    time_id
+                FROM reservation
+                WHERE `date` = ? AND theme_id = ?
                 """;
         return jdbcTemplate.query(
                 sql,
-                (resultSet, rowNum) -> getReservationTime(resultSet),
+                (resultSet, rowNum) -> resultSet.getLong("time_id"),
                 reservationDate.toStringDate(),
                 themeId
         );
     }
 
     @Override
-    public List<Theme> readPopularThemes(LocalDate startDate, LocalDate endDate) {
+    public Map<Long, Long> readReservationCountsByThemeId(LocalDate date) {
         String sql = """
                 SELECT
-                    th.id AS theme_id,
-                    th.name AS theme_name,
-                    th.description AS theme_description,
-                    th.thumbnail AS theme_thumbnail
-                FROM
-                    reservation r
-                INNER JOIN
-                    theme th ON r.theme_id = th.id
-                WHERE r.`date` BETWEEN ? AND ?
+                    theme_id,
+                    COUNT(*) AS reservation_count
+                FROM reservation
+                WHERE `date` = ?
                 GROUP BY theme_id
-                ORDER BY COUNT(*) DESC, theme_id
-                LIMIT 10;
                 """;
+        Map<Long, Long> counts = new HashMap<>();
+        jdbcTemplate.query(
+                sql,
+                resultSet -> {
+                    counts.put(resultSet.getLong("theme_id"), resultSet.getLong("reservation_count"));
+                },
+                date
+        );
+        return counts;
+    }
+
+    @Override
+    public Map<LocalDate, List<Long>> readBookedTimeIdsByThemeId(Long themeId, ReservationPeriod period) {
+        String sql = """
+                SELECT
+                    `date`,
+                    ARRAY_AGG(time_id ORDER BY time_id) AS time_ids
+                FROM reservation
+                WHERE theme_id = ? AND `date` BETWEEN ? AND ?
+                GROUP BY `date`
+                """;
+        Map<LocalDate, List<Long>> bookedTimeIds = new HashMap<>();
+        jdbcTemplate.query(
+                sql,
+                resultSet -> {
+                    bookedTimeIds.put(resultSet.getDate("date").toLocalDate(), getTimeIds(resultSet));
+                },
+                themeId,
+                period.getStartDate(),
+                period.getEndDate()
+        );
+        return bookedTimeIds;
+    }
+
+    @Override
+    public Map<Long, List<Long>> readBookedTimeIdsByDate(ReservationDate reservationDate) {
+        String sql = """
+                SELECT
+                    theme_id,
+                    ARRAY_AGG(time_id ORDER BY time_id) AS time_ids
+                FROM reservation
+                WHERE `date` = ?
+                GROUP BY theme_id
+                """;
+        Map<Long, List<Long>> bookedTimeIds = new HashMap<>();
+        jdbcTemplate.query(
+                sql,
+                resultSet -> {
+                    bookedTimeIds.put(resultSet.getLong("theme_id"), getTimeIds(resultSet));
+                },
+                reservationDate.toStringDate()
+        );
+        return bookedTimeIds;
+    }
+
+    @Override
+    public List<ReservationSlot> readSlots(Set<LocalDate> dates, Set<Long> themeIds) {
+        if (dates.isEmpty() || themeIds.isEmpty()) {
+            return List.of();
+        }
+        String sql = """
+                SELECT
+                    `date`,
+                    theme_id,
+                    time_id
+                FROM reservation
+                WHERE `date` IN (%s) AND theme_id IN (%s)
+                """.formatted(toPlaceholders(dates.size()), toPlaceholders(themeIds.size()));
+        List<Object> args = new ArrayList<>(dates);
+        args.addAll(themeIds);
         return jdbcTemplate.query(
                 sql,
-                (resultSet, rowNum) -> getTheme(resultSet),
-                startDate,
-                endDate
+                (resultSet, rowNum) -> new ReservationSlot(
+                        resultSet.getDate("date").toLocalDate(),
+                        resultSet.getLong("theme_id"),
+                        resultSet.getLong("time_id")
+                ),
+                args.toArray()
         );
     }
 
+    private String toPlaceholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
     @Override
     public Reservation create(Reservation reservation) {
         String sql = """
@@ -167,84 +268,85 @@ public class JdbcReservationDao implements ReservationDao {
     }
 
     @Override
-    public boolean hasSame(Reservation reservation) {
-        String sql = """
-                SELECT
-                CASE
-                    WHEN EXISTS (SELECT 1 FROM reservation WHERE date = ? AND time_id = ? AND theme_id = ?)
-                    THEN TRUE
-                    ELSE FALSE
-                END
-                """;
-        return jdbcTemplate.queryForObject(
-                sql,
-                boolean.class,
-                reservation.getDate().toStringDate(),
-                reservation.getReservationTime().getId(),
-                reservation.getTheme().getId()
-        );
-    }
-
-    @Override
-    public void delete(Reservation reservation) {
+    @Transactional
+    public List<Reservation> createAll(List<Reservation> reservations) {
         String sql = """
-                DELETE
-                FROM reservation
-                WHERE id = ?
+                INSERT
+                INTO reservation
+                    (name, date, time_id, theme_id)
+                VALUES
+                    (?, ?, ?, ?)
                 """;
-        jdbcTemplate.update(sql, reservation.getId());
-    }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(sql, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Reservation reservation = reservations.get(i);
+                        ps.setString(1, reservation.getName().getValue());
+                        ps.setDate(2, Date.valueOf(reservation.getDate().getValue()));
+                        ps.setLong(3, reservation.getReservationTime().getId());
+                        ps.setLong(4, reservation.getTheme().getId());
+                    }
 
-    @Override
-    public boolean existByTimeId(Long timeId) {
-        String sql = """
-                SELECT
-                CASE
-                    WHEN EXISTS (SELECT 1 FROM reservation WHERE time_id = ?)
-                    THEN TRUE
-                    ELSE FALSE
-                END
-                """;
-        return jdbcTemplate.queryForObject(sql, boolean.class, timeId);
+                    @Override
+                    public int getBatchSize() {
+                        return reservations.size();
+                    }
+                },
+                keyHolder
+        );
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        List<Reservation> created = new ArrayList<>(reservations.size());
+        for (int i = 0; i < reservations.size(); i++) {
+            Reservation reservation = reservations.get(i);
+            long id = ((Number) keys.get(i).values().iterator().next()).longValue();
+            created.add(new Reservation(
+                    id,
+                    reservation.getName(),
+                    reservation.getDate(),
+                    reservation.getReservationTime(),
+                    reservation.getTheme()
+            ));
+        }
+        return created;
     }
 
     @Override
-    public boolean existByThemeId(Long themeId) {
+    public Optional<ReservationSlot> deleteById(Long id) {
         String sql = """
                 SELECT
-                CASE
-                    WHEN EXISTS (SELECT 1 FROM reservation WHERE theme_id = ?)
-                    THEN TRUE
-                    ELSE FALSE
-                END
+                    `date`,
+                    theme_id,
+                    time_id
+                FROM OLD TABLE (
+                    DELETE
+                    FROM reservation
+                    WHERE id = ?
+                )
                 """;
-        return jdbcTemplate.queryForObject(sql, boolean.class, themeId);
-    }
-
-    private Reservation getReservation(ResultSet resultSet, ReservationTime reservationTime, Theme theme)
-            throws SQLException {
-        return new Reservation(
-                resultSet.getLong("id"),
-                new ReservationName(resultSet.getString("name")),
-                ReservationDate.from(resultSet.getString("date")),
-                reservationTime,
-                theme
-        );
-    }
-
-    private ReservationTime getReservationTime(ResultSet resultSet) throws SQLException {
-        return new ReservationTime(
-                resultSet.getLong("time_id"),
-                ReservationStartAt.from(resultSet.getString("time_value"))
+        List<ReservationSlot> slots = jdbcTemplate.query(
+                sql,
+                (resultSet, rowNum) -> new ReservationSlot(
+                        resultSet.getDate("date").toLocalDate(),
+                        resultSet.getLong("theme_id"),
+                        resultSet.getLong("time_id")
+                ),
+                id
         );
+        if (slots.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(slots.get(0));
     }
 
-    private Theme getTheme(ResultSet resultSet) throws SQLException {
-        return new Theme(
-                resultSet.getLong("theme_id"),
-                ThemeName.from(resultSet.getString("theme_name")),
-                ThemeDescription.from(resultSet.getString("theme_description")),
-                ThemeThumbnail.from(resultSet.getString("theme_thumbnail"))
-        );
+    private List<Long> getTimeIds(ResultSet resultSet) throws SQLException {
+        Object[] timeIds = (Object[]) resultSet.getArray("time_ids").getArray();
+        List<Long> result = new ArrayList<>(timeIds.length);
+        for (Object timeId : timeIds) {
+            result.add(((Number) timeId).longValue());
+        }
+        return result;
     }
 }
@@ -5,15 +5,20 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Time;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import roomescape.domain.reservationtime.ReservationStartAt;
 import roomescape.domain.reservationtime.ReservationTime;
+import roomescape.domain.reservationtime.ReservationTimeCatalog;
 
 @Repository
 public class JdbcReservationTimeDao implements ReservationTimeDao {
@@ -37,6 +42,11 @@ public class JdbcReservationTimeDao implements ReservationTimeDao {
         );
     }
 
+    @Override
+    public ReservationTimeCatalog readCatalog() {
+        return ReservationTimeCatalog.from(readAll());
+    }
+
     @Override
     public Optional<ReservationTime> readById(long id) {
         String sql = """
@@ -78,6 +88,41 @@ public class JdbcReservationTimeDao implements ReservationTimeDao {
         return new ReservationTime(id, reservationTime.getStartAt());
     }
 
+    @Override
+    @Transactional
+    public List<ReservationTime> createAll(List<ReservationTime> reservationTimes) {
+        String sql = """
+                INSERT
+                INTO reservation_time
+                    (start_at)
+                VALUES
+                    (?)
+                """;
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(sql, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ps.setTime(1, Time.valueOf(reservationTimes.get(i).getStartAt().getValue()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return reservationTimes.size();
+                    }
+                },
+                keyHolder
+        );
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        List<ReservationTime> created = new ArrayList<>(reservationTimes.size());
+        for (int i = 0; i < reservationTimes.size(); i++) {
+            long id = ((Number) keys.get(i).values().iterator().next()).longValue();
+            created.add(new ReservationTime(id, reservationTimes.get(i).getStartAt()));
+        }
+        return created;
+    }
+
     @Override
     public boolean exist(long id) {
         String sql = """
@@ -105,13 +150,14 @@ public class JdbcReservationTimeDao implements ReservationTimeDao {
     }
 
     @Override
-    public void delete(long id) {
+    public int deleteIfNotReferenced(long id) {
         String sql = """
                 DELETE
                 FROM reservation_time
                 WHERE id = ?
+                AND NOT EXISTS (SELECT 1 FROM reservation WHERE time_id = ?)
                 """;
-        jdbcTemplate.update(sql, id);
+        return jdbcTemplate.update(sql, id, id);
     }
 
     private ReservationTime getReservationTime(ResultSet resultSet) throws SQLException {
@@ -102,13 +102,14 @@ public class JdbcThemeDao implements ThemeDao {
     }
 
     @Override
-    public void delete(long id) {
+    public int deleteIfNotReferenced(long id) {
         String sql = """
                 DELETE
                 FROM theme
                 WHERE id = ?
+                AND NOT EXISTS (SELECT 1 FROM reservation WHERE theme_id = ?)
                 """;
-        jdbcTemplate.update(sql, id);
+        return jdbcTemplate.update(sql, id, id);
     }
 
     private Theme getTheme(ResultSet resultSet) throws SQLException {
@@ -2,31 +2,37 @@ package roomescape.dao;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import org.springframework.stereotype.Repository;
 import roomescape.domain.reservation.Reservation;
 import roomescape.domain.reservation.ReservationDate;
-import roomescape.domain.reservationtime.ReservationTime;
-import roomescape.domain.theme.Theme;
+import roomescape.domain.reservation.ReservationPeriod;
+import roomescape.domain.reservation.ReservationSearchCondition;
+import roomescape.domain.reservation.ReservationSlot;
 
 @Repository
 public interface ReservationDao {
 
-    List<Reservation> readAll();
+    List<Reservation> readAll(ReservationSearchCondition condition);
 
-    Optional<Reservation> readById(Long id);
+    void streamAll(Consumer<Reservation> consumer);
 
-    List<ReservationTime> readTimesByDateAndThemeId(ReservationDate reservationDate, Long themeId);
+    List<Long> readBookedTimeIds(ReservationDate reservationDate, Long themeId);
 
-    List<Theme> readPopularThemes(LocalDate startDate, LocalDate endDate);
+    Map<Long, Long> readReservationCountsByThemeId(LocalDate date);
 
-    Reservation create(Reservation reservation);
+    Map<LocalDate, List<Long>> readBookedTimeIdsByThemeId(Long themeId, ReservationPeriod period);
+
+    Map<Long, List<Long>> readBookedTimeIdsByDate(ReservationDate reservationDate);
 
-    boolean hasSame(Reservation reservation);
+    List<ReservationSlot> readSlots(Set<LocalDate> dates, Set<Long> themeIds);
 
-    void delete(Reservation reservation);
+    Reservation create(Reservation reservation);
 
-    boolean existByTimeId(Long timeId);
+    List<Reservation> createAll(List<Reservation> reservations);
 
-    boolean existByThemeId(Long id);
+    Optional<ReservationSlot> deleteById(Long id);
 }
@@ -0,0 +1,72 @@
+package roomescape.dao;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.jdbc.core.RowMapper;
+import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.ReservationDate;
+import roomescape.domain.reservation.ReservationName;
+import roomescape.domain.reservationtime.ReservationStartAt;
+import roomescape.domain.reservationtime.ReservationTime;
+import roomescape.domain.theme.Theme;
+import roomescape.domain.theme.ThemeDescription;
+import roomescape.domain.theme.ThemeName;
+import roomescape.domain.theme.ThemeThumbnail;
+
+public class ReservationRowMapper implements RowMapper<Reservation> {
+
+    private final Map<Long, ReservationTime> reservationTimes = new HashMap<>();
+    private final Map<Long, Theme> themes = new HashMap<>();
+    private final Map<String, ReservationDate> reservationDates = new HashMap<>();
+
+    @Override
+    public Reservation mapRow(ResultSet resultSet, int rowNum) throws SQLException {
+        return new Reservation(
+                resultSet.getLong("id"),
+                new ReservationName(resultSet.getString("name")),
+                getReservationDate(resultSet),
+                getReservationTime(resultSet),
+                getTheme(resultSet)
+        );
+    }
+
+    private ReservationDate getReservationDate(ResultSet resultSet) throws SQLException {
+        String date = resultSet.getString("date");
+        ReservationDate reservationDate = reservationDates.get(date);
+        if (reservationDate == null) {
+            reservationDate = ReservationDate.from(date);
+            reservationDates.put(date, reservationDate);
+        }
+        return reservationDate;
+    }
+
+    private ReservationTime getReservationTime(ResultSet resultSet) throws SQLException {
+        long timeId = resultSet.getLong("time_id");
+        ReservationTime reservationTime = reservationTimes.get(timeId);
+        if (reservationTime == null) {
+            reservationTime = new ReservationTime(
+                    timeId,
+                    ReservationStartAt.from(resultSet.getString("time_value"))
+            );
+            reservationTimes.put(timeId, reservationTime);
+        }
+        return reservationTime;
+    }
+
+    private Theme getTheme(ResultSet resultSet) throws SQLException {
+        long themeId = resultSet.getLong("theme_id");
+        Theme theme = themes.get(themeId);
+        if (theme == null) {
+            theme = new Theme(
+                    themeId,
+                    ThemeName.from(resultSet.getString("theme_name")),
+                    ThemeDescription.from(resultSet.getString("theme_description")),
+                    ThemeThumbnail.from(resultSet.getString("theme_thumbnail"))
+            );
+            themes.put(themeId, theme);
+        }
+        return theme;
+    }
+}
@@ -4,19 +4,24 @@ import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Repository;
 import roomescape.domain.reservationtime.ReservationTime;
+import roomescape.domain.reservationtime.ReservationTimeCatalog;
 
 @Repository
 public interface ReservationTimeDao {
 
     List<ReservationTime> readAll();
 
+    ReservationTimeCatalog readCatalog();
+
     Optional<ReservationTime> readById(long id);
 
     ReservationTime create(ReservationTime reservationTime);
 
+    List<ReservationTime> createAll(List<ReservationTime> reservationTimes);
+
     boolean exist(long id);
 
     boolean exist(ReservationTime reservationTime);
 
-    void delete(long id);
+    int deleteIfNotReferenced(long id);
 }
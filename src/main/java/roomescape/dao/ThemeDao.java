@@ -16,5 +16,5 @@ public interface ThemeDao {
 
     boolean exist(String name);
 
-    void delete(long id);
+    int deleteIfNotReferenced(long id);
 }
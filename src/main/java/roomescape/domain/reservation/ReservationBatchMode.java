@@ -0,0 +1,22 @@
+package roomescape.domain.reservation;
+
+public enum ReservationBatchMode {
+
+    ALL_OR_NOTHING,
+    BEST_EFFORT;
+
+    public static ReservationBatchMode from(String value) {
+        if (value == null || value.isBlank()) {
+            return ALL_OR_NOTHING;
+        }
+        try {
+            return valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("일괄 예약 방식은 ALL_OR_NOTHING 또는 BEST_EFFORT 이어야 합니다.");
+        }
+    }
+
+    public boolean isAllOrNothing() {
+        return this == ALL_OR_NOTHING;
+    }
+}
@@ -53,6 +53,10 @@ public class ReservationDate {
         return reservationTimes;
     }
 
+    public boolean isAfter(ReservationDate other) {
+        return value.isAfter(other.value);
+    }
+
     private boolean isSame(LocalDate date) {
         return value.equals(date);
     }
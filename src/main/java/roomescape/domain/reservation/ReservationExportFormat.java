@@ -0,0 +1,37 @@
+package roomescape.domain.reservation;
+
+import java.util.Locale;
+
+public enum ReservationExportFormat {
+
+    JSON("application/json", "json"),
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ReservationExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public static ReservationExportFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return JSON;
+        }
+        try {
+            return valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("내보내기 형식은 json, ndjson, csv 중 하나이어야 합니다.");
+        }
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,61 @@
+package roomescape.domain.reservation;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+public class ReservationPeriod {
+
+    private static final int MAX_DAYS = 93;
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    private ReservationPeriod(LocalDate startDate, LocalDate endDate) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    public static ReservationPeriod ofMonth(String month) {
+        YearMonth yearMonth = convertYearMonth(month);
+        return new ReservationPeriod(yearMonth.atDay(1), yearMonth.atEndOfMonth());
+    }
+
+    public static ReservationPeriod of(String startDate, String endDate) {
+        ReservationDate start = ReservationDate.from(startDate);
+        ReservationDate end = ReservationDate.from(endDate);
+        validateRange(start, end);
+        return new ReservationPeriod(start.getValue(), end.getValue());
+    }
+
+    private static YearMonth convertYearMonth(String month) {
+        try {
+            return YearMonth.parse(month);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("조회 월 형식은 yyyy-MM 이어야 합니다.");
+        }
+    }
+
+    private static void validateRange(ReservationDate start, ReservationDate end) {
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("조회 시작 날짜는 종료 날짜보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(start.getValue(), end.getValue()) >= MAX_DAYS) {
+            throw new IllegalArgumentException("조회 기간은 " + MAX_DAYS + "일을 넘을 수 없습니다.");
+        }
+    }
+
+    public List<LocalDate> getDates() {
+        return startDate.datesUntil(endDate.plusDays(1)).toList();
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+}
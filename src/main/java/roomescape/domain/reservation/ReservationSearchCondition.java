@@ -0,0 +1,116 @@
+package roomescape.domain.reservation;
+
+public class ReservationSearchCondition {
+
+    private static final long FIRST_CURSOR = 0L;
+    private static final int DEFAULT_SIZE = 100;
+    private static final int MAX_SIZE = 1000;
+
+    private final long lastId;
+    private final int size;
+    private final ReservationDate dateFrom;
+    private final ReservationDate dateTo;
+    private final Long themeId;
+    private final Long timeId;
+
+    private ReservationSearchCondition(long lastId,
+                                       int size,
+                                       ReservationDate dateFrom,
+                                       ReservationDate dateTo,
+                                       Long themeId,
+                                       Long timeId) {
+        this.lastId = lastId;
+        this.size = size;
+        this.dateFrom = dateFrom;
+        this.dateTo = dateTo;
+        this.themeId = themeId;
+        this.timeId = timeId;
+    }
+
+    public static ReservationSearchCondition of(Long lastId,
+                                                Integer size,
+                                                String dateFrom,
+                                                String dateTo,
+                                                Long themeId,
+                                                Long timeId) {
+        long cursor = convertCursor(lastId);
+        int pageSize = convertSize(size);
+        ReservationDate from = convertDate(dateFrom);
+        ReservationDate to = convertDate(dateTo);
+        validateDateRange(from, to);
+        return new ReservationSearchCondition(cursor, pageSize, from, to, themeId, timeId);
+    }
+
+    private static long convertCursor(Long lastId) {
+        if (lastId == null) {
+            return FIRST_CURSOR;
+        }
+        if (lastId < FIRST_CURSOR) {
+            throw new IllegalArgumentException("마지막 예약 아이디는 음수일 수 없습니다.");
+        }
+        return lastId;
+    }
+
+    private static int convertSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_SIZE;
+        }
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("조회 크기는 1 이상 " + MAX_SIZE + " 이하이어야 합니다.");
+        }
+        return size;
+    }
+
+    private static ReservationDate convertDate(String date) {
+        if (date == null || date.isBlank()) {
+            return null;
+        }
+        return ReservationDate.from(date);
+    }
+
+    private static void validateDateRange(ReservationDate from, ReservationDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("조회 시작 날짜는 종료 날짜보다 늦을 수 없습니다.");
+        }
+    }
+
+    public boolean hasDateFrom() {
+        return dateFrom != null;
+    }
+
+    public boolean hasDateTo() {
+        return dateTo != null;
+    }
+
+    public boolean hasThemeId() {
+        return themeId != null;
+    }
+
+    public boolean hasTimeId() {
+        return timeId != null;
+    }
+
+    public long getLastId() {
+        return lastId;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public ReservationDate getDateFrom() {
+        return dateFrom;
+    }
+
+    public ReservationDate getDateTo() {
+        return dateTo;
+    }
+
+    public Long getThemeId() {
+        return themeId;
+    }
+
+    public Long getTimeId() {
+        return timeId;
+    }
+}
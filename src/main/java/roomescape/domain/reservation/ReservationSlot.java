@@ -0,0 +1,56 @@
+package roomescape.domain.reservation;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+public class ReservationSlot {
+
+    private final LocalDate date;
+    private final Long themeId;
+    private final Long timeId;
+
+    public ReservationSlot(LocalDate date, Long themeId, Long timeId) {
+        this.date = date;
+        this.themeId = themeId;
+        this.timeId = timeId;
+    }
+
+    public static ReservationSlot from(Reservation reservation) {
+        return new ReservationSlot(
+                reservation.getDate().getValue(),
+                reservation.getTheme().getId(),
+                reservation.getReservationTime().getId()
+        );
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public Long getThemeId() {
+        return themeId;
+    }
+
+    public Long getTimeId() {
+        return timeId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ReservationSlot other = (ReservationSlot) o;
+        return Objects.equals(this.date, other.date)
+               && Objects.equals(this.themeId, other.themeId)
+               && Objects.equals(this.timeId, other.timeId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(date, themeId, timeId);
+    }
+}
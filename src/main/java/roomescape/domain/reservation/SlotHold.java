@@ -0,0 +1,37 @@
+package roomescape.domain.reservation;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+public class SlotHold {
+
+    private final String token;
+    private final ReservationSlot slot;
+    private final LocalDateTime expiresAt;
+
+    public SlotHold(String token, ReservationSlot slot, LocalDateTime expiresAt) {
+        this.token = token;
+        this.slot = slot;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    public boolean isHeldBy(String token) {
+        return Objects.equals(this.token, token);
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public ReservationSlot getSlot() {
+        return slot;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+}
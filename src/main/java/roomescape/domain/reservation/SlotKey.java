@@ -0,0 +1,49 @@
+package roomescape.domain.reservation;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+public class SlotKey {
+
+    private final LocalDate date;
+    private final Long themeId;
+
+    public SlotKey(LocalDate date, Long themeId) {
+        this.date = date;
+        this.themeId = themeId;
+    }
+
+    public static SlotKey from(Reservation reservation) {
+        return new SlotKey(reservation.getDate().getValue(), reservation.getTheme().getId());
+    }
+
+    public static SlotKey from(ReservationSlot slot) {
+        return new SlotKey(slot.getDate(), slot.getThemeId());
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public Long getThemeId() {
+        return themeId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SlotKey other = (SlotKey) o;
+        return Objects.equals(this.date, other.date)
+               && Objects.equals(this.themeId, other.themeId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(date, themeId);
+    }
+}
@@ -0,0 +1,70 @@
+package roomescape.domain.reservation;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.OptionalInt;
+import java.util.Set;
+import roomescape.domain.reservationtime.ReservationTime;
+import roomescape.domain.reservationtime.ReservationTimeCatalog;
+
+public class SlotOccupancy {
+
+    private final ReservationTimeCatalog catalog;
+    private final BitSet bookedOrdinals;
+    private final Set<Long> uncataloguedTimeIds;
+
+    private SlotOccupancy(ReservationTimeCatalog catalog, BitSet bookedOrdinals, Set<Long> uncataloguedTimeIds) {
+        this.catalog = catalog;
+        this.bookedOrdinals = bookedOrdinals;
+        this.uncataloguedTimeIds = uncataloguedTimeIds;
+    }
+
+    public static SlotOccupancy of(ReservationTimeCatalog catalog, Collection<Long> bookedTimeIds) {
+        BitSet bookedOrdinals = new BitSet(catalog.findAll().size());
+        Set<Long> uncataloguedTimeIds = new HashSet<>();
+        for (Long bookedTimeId : bookedTimeIds) {
+            catalog.findOrdinal(bookedTimeId).ifPresentOrElse(
+                    bookedOrdinals::set,
+                    () -> uncataloguedTimeIds.add(bookedTimeId)
+            );
+        }
+        return new SlotOccupancy(catalog, bookedOrdinals, Set.copyOf(uncataloguedTimeIds));
+    }
+
+    public SlotOccupancy book(Long timeId) {
+        OptionalInt ordinal = catalog.findOrdinal(timeId);
+        if (ordinal.isEmpty()) {
+            Set<Long> uncatalogued = new HashSet<>(uncataloguedTimeIds);
+            uncatalogued.add(timeId);
+            return new SlotOccupancy(catalog, bookedOrdinals, Set.copyOf(uncatalogued));
+        }
+        BitSet booked = (BitSet) bookedOrdinals.clone();
+        booked.set(ordinal.getAsInt());
+        return new SlotOccupancy(catalog, booked, uncataloguedTimeIds);
+    }
+
+    public SlotOccupancy cancel(Long timeId) {
+        OptionalInt ordinal = catalog.findOrdinal(timeId);
+        if (ordinal.isEmpty()) {
+            Set<Long> uncatalogued = new HashSet<>(uncataloguedTimeIds);
+            uncatalogued.remove(timeId);
+            return new SlotOccupancy(catalog, bookedOrdinals, Set.copyOf(uncatalogued));
+        }
+        BitSet booked = (BitSet) bookedOrdinals.clone();
+        booked.clear(ordinal.getAsInt());
+        return new SlotOccupancy(catalog, booked, uncataloguedTimeIds);
+    }
+
+    public boolean isBooked(ReservationTime reservationTime) {
+        return isBooked(reservationTime.getId());
+    }
+
+    public boolean isBooked(Long timeId) {
+        OptionalInt ordinal = catalog.findOrdinal(timeId);
+        if (ordinal.isEmpty()) {
+            return uncataloguedTimeIds.contains(timeId);
+        }
+        return bookedOrdinals.get(ordinal.getAsInt());
+    }
+}
@@ -20,6 +20,10 @@ public class ReservationStartAt {
         return new ReservationStartAt(convertLocalDate(value));
     }
 
+    public static ReservationStartAt of(LocalTime value) {
+        return new ReservationStartAt(value);
+    }
+
     private static LocalTime convertLocalDate(String value) {
         try {
             return LocalTime.parse(value);
@@ -0,0 +1,87 @@
+package roomescape.domain.reservationtime;
+
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.stream.Stream;
+
+public class ReservationTimeCatalog {
+
+    private static final Comparator<ReservationTime> START_AT_ORDER =
+            Comparator.comparing((ReservationTime time) -> time.getStartAt().getValue())
+                    .thenComparing(ReservationTime::getId);
+
+    private final List<ReservationTime> reservationTimes;
+    private final Map<Long, Integer> ordinals;
+
+    private ReservationTimeCatalog(List<ReservationTime> reservationTimes) {
+        this.reservationTimes = reservationTimes;
+        this.ordinals = toOrdinals(reservationTimes);
+    }
+
+    private static Map<Long, Integer> toOrdinals(List<ReservationTime> reservationTimes) {
+        Map<Long, Integer> ordinals = new HashMap<>();
+        for (int i = 0; i < reservationTimes.size(); i++) {
+            ordinals.put(reservationTimes.get(i).getId(), i);
+        }
+        return Collections.unmodifiableMap(ordinals);
+    }
+
+    public static ReservationTimeCatalog from(List<ReservationTime> reservationTimes) {
+        return new ReservationTimeCatalog(sort(reservationTimes.stream()));
+    }
+
+    private static List<ReservationTime> sort(Stream<ReservationTime> reservationTimes) {
+        return reservationTimes.sorted(START_AT_ORDER)
+                .toList();
+    }
+
+    public ReservationTimeCatalog add(ReservationTime reservationTime) {
+        return new ReservationTimeCatalog(sort(Stream.concat(reservationTimes.stream(), Stream.of(reservationTime))));
+    }
+
+    public ReservationTimeCatalog addAll(List<ReservationTime> added) {
+        return new ReservationTimeCatalog(sort(Stream.concat(reservationTimes.stream(), added.stream())));
+    }
+
+    public ReservationTimeCatalog remove(long id) {
+        return new ReservationTimeCatalog(reservationTimes.stream()
+                .filter(time -> time.getId() != id)
+                .toList());
+    }
+
+    public List<ReservationTime> findAll() {
+        return reservationTimes;
+    }
+
+    public Optional<ReservationTime> findById(long id) {
+        Integer ordinal = ordinals.get(id);
+        if (ordinal == null) {
+            return Optional.empty();
+        }
+        return Optional.of(reservationTimes.get(ordinal));
+    }
+
+    public OptionalInt findOrdinal(long id) {
+        Integer ordinal = ordinals.get(id);
+        if (ordinal == null) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(ordinal);
+    }
+
+    public boolean contains(long id) {
+        return ordinals.containsKey(id);
+    }
+
+    public boolean contains(ReservationStartAt startAt) {
+        LocalTime value = startAt.getValue();
+        return reservationTimes.stream()
+                .anyMatch(time -> time.getStartAt().getValue().equals(value));
+    }
+}
@@ -0,0 +1,59 @@
+package roomescape.domain.reservationtime;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ReservationTimeRange {
+
+    private static final int MIN_INTERVAL_MINUTES = 5;
+    private static final int MAX_INTERVAL_MINUTES = 720;
+
+    private final LocalTime startAt;
+    private final LocalTime endAt;
+    private final int intervalMinutes;
+
+    private ReservationTimeRange(LocalTime startAt, LocalTime endAt, int intervalMinutes) {
+        this.startAt = startAt;
+        this.endAt = endAt;
+        this.intervalMinutes = intervalMinutes;
+    }
+
+    public static ReservationTimeRange of(String startAt, String endAt, Integer intervalMinutes) {
+        LocalTime start = ReservationStartAt.from(startAt).getValue();
+        LocalTime end = ReservationStartAt.from(endAt).getValue();
+        validateRange(start, end);
+        validateInterval(intervalMinutes);
+        return new ReservationTimeRange(start, end, intervalMinutes);
+    }
+
+    private static void validateRange(LocalTime start, LocalTime end) {
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("시작 시간은 종료 시간보다 늦을 수 없습니다.");
+        }
+    }
+
+    private static void validateInterval(Integer intervalMinutes) {
+        if (intervalMinutes == null
+            || intervalMinutes < MIN_INTERVAL_MINUTES
+            || intervalMinutes > MAX_INTERVAL_MINUTES) {
+            throw new IllegalArgumentException(
+                    "시간 간격은 " + MIN_INTERVAL_MINUTES + "분 이상 " + MAX_INTERVAL_MINUTES + "분 이하이어야 합니다."
+            );
+        }
+    }
+
+    public List<ReservationStartAt> toStartAts() {
+        List<ReservationStartAt> startAts = new ArrayList<>();
+        LocalTime current = startAt;
+        while (!current.isAfter(endAt)) {
+            startAts.add(ReservationStartAt.of(current));
+            LocalTime next = current.plusMinutes(intervalMinutes);
+            if (!next.isAfter(current)) {
+                break;
+            }
+            current = next;
+        }
+        return startAts;
+    }
+}
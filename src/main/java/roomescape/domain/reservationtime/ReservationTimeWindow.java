@@ -0,0 +1,35 @@
+package roomescape.domain.reservationtime;
+
+import java.time.LocalTime;
+
+public class ReservationTimeWindow {
+
+    private final LocalTime from;
+    private final LocalTime to;
+
+    private ReservationTimeWindow(LocalTime from, LocalTime to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    public static ReservationTimeWindow of(String from, String to) {
+        LocalTime start = convertTime(from, LocalTime.MIN);
+        LocalTime end = convertTime(to, LocalTime.MAX);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("조회 시작 시간은 종료 시간보다 늦을 수 없습니다.");
+        }
+        return new ReservationTimeWindow(start, end);
+    }
+
+    private static LocalTime convertTime(String value, LocalTime defaultValue) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        return ReservationStartAt.from(value).getValue();
+    }
+
+    public boolean contains(ReservationTime reservationTime) {
+        LocalTime startAt = reservationTime.getStartAt().getValue();
+        return !startAt.isBefore(from) && !startAt.isAfter(to);
+    }
+}
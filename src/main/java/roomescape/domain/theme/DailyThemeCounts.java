@@ -0,0 +1,33 @@
+package roomescape.domain.theme;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class DailyThemeCounts {
+
+    private final Map<Long, Long> counts;
+
+    private DailyThemeCounts(Map<Long, Long> counts) {
+        this.counts = counts;
+    }
+
+    public static DailyThemeCounts from(Map<Long, Long> counts) {
+        return new DailyThemeCounts(Map.copyOf(counts));
+    }
+
+    public DailyThemeCounts increase(Long themeId) {
+        Map<Long, Long> increased = new HashMap<>(counts);
+        increased.merge(themeId, 1L, Long::sum);
+        return new DailyThemeCounts(increased);
+    }
+
+    public DailyThemeCounts decrease(Long themeId) {
+        Map<Long, Long> decreased = new HashMap<>(counts);
+        decreased.computeIfPresent(themeId, (id, count) -> count > 1 ? count - 1 : null);
+        return new DailyThemeCounts(decreased);
+    }
+
+    public void addTo(Map<Long, Long> totals) {
+        counts.forEach((themeId, count) -> totals.merge(themeId, count, Long::sum));
+    }
+}
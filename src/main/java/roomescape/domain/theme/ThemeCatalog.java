@@ -0,0 +1,45 @@
+package roomescape.domain.theme;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class ThemeCatalog {
+
+    private final Map<Long, Theme> themes;
+    private final Set<String> names;
+
+    private ThemeCatalog(Map<Long, Theme> themes, Set<String> names) {
+        this.themes = themes;
+        this.names = names;
+    }
+
+    public static ThemeCatalog from(List<Theme> themes) {
+        Map<Long, Theme> themesById = new LinkedHashMap<>();
+        themes.forEach(theme -> themesById.put(theme.getId(), theme));
+        Set<String> names = themes.stream()
+                .map(theme -> theme.getName().getValue())
+                .collect(Collectors.toUnmodifiableSet());
+        return new ThemeCatalog(Collections.unmodifiableMap(themesById), names);
+    }
+
+    public List<Theme> findAll() {
+        return List.copyOf(themes.values());
+    }
+
+    public Optional<Theme> findById(Long id) {
+        return Optional.ofNullable(themes.get(id));
+    }
+
+    public boolean contains(long id) {
+        return themes.containsKey(id);
+    }
+
+    public boolean contains(String name) {
+        return name != null && names.contains(name);
+    }
+}
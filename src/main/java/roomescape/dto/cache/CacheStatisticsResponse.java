@@ -0,0 +1,78 @@
+package roomescape.dto.cache;
+
+import java.util.Objects;
+import roomescape.cache.CacheStatistics;
+
+public class CacheStatisticsResponse {
+
+    private final String name;
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+
+    private CacheStatisticsResponse(String name, long hitCount, long missCount, long evictionCount) {
+        this.name = name;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+    }
+
+    public static CacheStatisticsResponse from(CacheStatistics statistics) {
+        return new CacheStatisticsResponse(
+                statistics.getName(),
+                statistics.getHitCount(),
+                statistics.getMissCount(),
+                statistics.getEvictionCount()
+        );
+    }
+
+    public static CacheStatisticsResponse of(String name, long hitCount, long missCount, long evictionCount) {
+        return new CacheStatisticsResponse(name, hitCount, missCount, evictionCount);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CacheStatisticsResponse other = (CacheStatisticsResponse) o;
+        return this.hitCount == other.hitCount
+               && this.missCount == other.missCount
+               && this.evictionCount == other.evictionCount
+               && Objects.equals(this.name, other.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, hitCount, missCount, evictionCount);
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatisticsResponse{" +
+               "name='" + name + '\'' +
+               ", hitCount=" + hitCount +
+               ", missCount=" + missCount +
+               ", evictionCount=" + evictionCount +
+               '}';
+    }
+}
@@ -0,0 +1,98 @@
+package roomescape.dto.query;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import roomescape.query.EndpointQueryStatistics;
+
+public class QueryStatisticsResponse {
+
+    private final String endpoint;
+    private final long requestCount;
+    private final long statementCount;
+    private final long maxStatementCount;
+    private final long totalQueryMillis;
+
+    private QueryStatisticsResponse(String endpoint,
+                                    long requestCount,
+                                    long statementCount,
+                                    long maxStatementCount,
+                                    long totalQueryMillis) {
+        this.endpoint = endpoint;
+        this.requestCount = requestCount;
+        this.statementCount = statementCount;
+        this.maxStatementCount = maxStatementCount;
+        this.totalQueryMillis = totalQueryMillis;
+    }
+
+    public static QueryStatisticsResponse from(EndpointQueryStatistics statistics) {
+        return new QueryStatisticsResponse(
+                statistics.getEndpoint(),
+                statistics.getRequestCount(),
+                statistics.getStatementCount(),
+                statistics.getMaxStatementCount(),
+                TimeUnit.NANOSECONDS.toMillis(statistics.getElapsedNanos())
+        );
+    }
+
+    public static QueryStatisticsResponse of(String endpoint,
+                                             long requestCount,
+                                             long statementCount,
+                                             long maxStatementCount,
+                                             long totalQueryMillis) {
+        return new QueryStatisticsResponse(
+                endpoint, requestCount, statementCount, maxStatementCount, totalQueryMillis
+        );
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    public long getStatementCount() {
+        return statementCount;
+    }
+
+    public long getMaxStatementCount() {
+        return maxStatementCount;
+    }
+
+    public long getTotalQueryMillis() {
+        return totalQueryMillis;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        QueryStatisticsResponse other = (QueryStatisticsResponse) o;
+        return this.requestCount == other.requestCount
+               && this.statementCount == other.statementCount
+               && this.maxStatementCount == other.maxStatementCount
+               && this.totalQueryMillis == other.totalQueryMillis
+               && Objects.equals(this.endpoint, other.endpoint);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(endpoint, requestCount, statementCount, maxStatementCount, totalQueryMillis);
+    }
+
+    @Override
+    public String toString() {
+        return "QueryStatisticsResponse{" +
+               "endpoint='" + endpoint + '\'' +
+               ", requestCount=" + requestCount +
+               ", statementCount=" + statementCount +
+               ", maxStatementCount=" + maxStatementCount +
+               ", totalQueryMillis=" + totalQueryMillis +
+               '}';
+    }
+}
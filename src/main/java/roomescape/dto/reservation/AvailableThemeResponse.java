@@ -0,0 +1,64 @@
+package roomescape.dto.reservation;
+
+import java.util.List;
+import java.util.Objects;
+import roomescape.domain.reservationtime.ReservationTime;
+import roomescape.domain.theme.Theme;
+import roomescape.dto.reservationtime.ReservationTimeResponse;
+import roomescape.dto.theme.ThemeResponse;
+
+public class AvailableThemeResponse {
+
+    private final ThemeResponse theme;
+    private final List<ReservationTimeResponse> times;
+
+    private AvailableThemeResponse(ThemeResponse theme, List<ReservationTimeResponse> times) {
+        this.theme = theme;
+        this.times = times;
+    }
+
+    public static AvailableThemeResponse of(Theme theme, List<ReservationTime> availableTimes) {
+        List<ReservationTimeResponse> times = availableTimes.stream()
+                .map(ReservationTimeResponse::from)
+                .toList();
+        return new AvailableThemeResponse(ThemeResponse.from(theme), times);
+    }
+
+    public static AvailableThemeResponse of(ThemeResponse theme, List<ReservationTimeResponse> times) {
+        return new AvailableThemeResponse(theme, times);
+    }
+
+    public ThemeResponse getTheme() {
+        return theme;
+    }
+
+    public List<ReservationTimeResponse> getTimes() {
+        return times;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        AvailableThemeResponse other = (AvailableThemeResponse) o;
+        return Objects.equals(this.theme, other.theme)
+               && Objects.equals(this.times, other.times);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(theme, times);
+    }
+
+    @Override
+    public String toString() {
+        return "AvailableThemeResponse{" +
+               "theme=" + theme +
+               ", times=" + times +
+               '}';
+    }
+}
@@ -0,0 +1,70 @@
+package roomescape.dto.reservation;
+
+import java.util.Objects;
+import roomescape.domain.reservation.ReservationDate;
+import roomescape.domain.reservationtime.ReservationTimeWindow;
+
+public class AvailableThemeSearchRequest {
+
+    private final String date;
+    private final String from;
+    private final String to;
+
+    private AvailableThemeSearchRequest(String date, String from, String to) {
+        this.date = date;
+        this.from = from;
+        this.to = to;
+    }
+
+    public static AvailableThemeSearchRequest of(String date, String from, String to) {
+        return new AvailableThemeSearchRequest(date, from, to);
+    }
+
+    public ReservationDate toDate() {
+        return ReservationDate.from(date);
+    }
+
+    public ReservationTimeWindow toTimeWindow() {
+        return ReservationTimeWindow.of(from, to);
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public String getFrom() {
+        return from;
+    }
+
+    public String getTo() {
+        return to;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        AvailableThemeSearchRequest other = (AvailableThemeSearchRequest) o;
+        return Objects.equals(this.date, other.date)
+               && Objects.equals(this.from, other.from)
+               && Objects.equals(this.to, other.to);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(date, from, to);
+    }
+
+    @Override
+    public String toString() {
+        return "AvailableThemeSearchRequest{" +
+               "date='" + date + '\'' +
+               ", from='" + from + '\'' +
+               ", to='" + to + '\'' +
+               '}';
+    }
+}
@@ -0,0 +1,93 @@
+package roomescape.dto.reservation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import roomescape.domain.reservation.Reservation;
+import roomescape.dto.reservationtime.ReservationTimeResponse;
+import roomescape.dto.theme.ThemeResponse;
+
+public class CompactReservationListResponse {
+
+    private final List<CompactReservationResponse> reservations;
+    private final List<ReservationTimeResponse> times;
+    private final List<ThemeResponse> themes;
+
+    private CompactReservationListResponse(List<CompactReservationResponse> reservations,
+                                           List<ReservationTimeResponse> times,
+                                           List<ThemeResponse> themes) {
+        this.reservations = reservations;
+        this.times = times;
+        this.themes = themes;
+    }
+
+    public static CompactReservationListResponse from(List<Reservation> reservations) {
+        List<CompactReservationResponse> compactReservations = new ArrayList<>(reservations.size());
+        Map<Long, ReservationTimeResponse> times = new LinkedHashMap<>();
+        Map<Long, ThemeResponse> themes = new LinkedHashMap<>();
+        for (Reservation reservation : reservations) {
+            compactReservations.add(CompactReservationResponse.from(reservation));
+            times.computeIfAbsent(
+                    reservation.getReservationTime().getId(),
+                    id -> ReservationTimeResponse.from(reservation.getReservationTime())
+            );
+            themes.computeIfAbsent(
+                    reservation.getTheme().getId(),
+                    id -> ThemeResponse.from(reservation.getTheme())
+            );
+        }
+        return new CompactReservationListResponse(
+                compactReservations,
+                List.copyOf(times.values()),
+                List.copyOf(themes.values())
+        );
+    }
+
+    public static CompactReservationListResponse of(List<CompactReservationResponse> reservations,
+                                                    List<ReservationTimeResponse> times,
+                                                    List<ThemeResponse> themes) {
+        return new CompactReservationListResponse(reservations, times, themes);
+    }
+
+    public List<CompactReservationResponse> getReservations() {
+        return reservations;
+    }
+
+    public List<ReservationTimeResponse> getTimes() {
+        return times;
+    }
+
+    public List<ThemeResponse> getThemes() {
+        return themes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CompactReservationListResponse other = (CompactReservationListResponse) o;
+        return Objects.equals(this.reservations, other.reservations)
+                && Objects.equals(this.times, other.times)
+                && Objects.equals(this.themes, other.themes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(reservations, times, themes);
+    }
+
+    @Override
+    public String toString() {
+        return "CompactReservationListResponse{" +
+                "reservations=" + reservations +
+                ", times=" + times +
+                ", themes=" + themes +
+                '}';
+    }
+}
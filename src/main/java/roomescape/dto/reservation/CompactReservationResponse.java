@@ -0,0 +1,87 @@
+package roomescape.dto.reservation;
+
+import java.util.Objects;
+import roomescape.domain.reservation.Reservation;
+
+public class CompactReservationResponse {
+
+    private final Long id;
+    private final String name;
+    private final String date;
+    private final Long timeId;
+    private final Long themeId;
+
+    private CompactReservationResponse(Long id, String name, String date, Long timeId, Long themeId) {
+        this.id = id;
+        this.name = name;
+        this.date = date;
+        this.timeId = timeId;
+        this.themeId = themeId;
+    }
+
+    public static CompactReservationResponse from(Reservation reservation) {
+        return new CompactReservationResponse(
+                reservation.getId(),
+                reservation.getName().getValue(),
+                reservation.getDate().toStringDate(),
+                reservation.getReservationTime().getId(),
+                reservation.getTheme().getId()
+        );
+    }
+
+    public static CompactReservationResponse of(Long id, String name, String date, Long timeId, Long themeId) {
+        return new CompactReservationResponse(id, name, date, timeId, themeId);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public Long getTimeId() {
+        return timeId;
+    }
+
+    public Long getThemeId() {
+        return themeId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CompactReservationResponse other = (CompactReservationResponse) o;
+        return Objects.equals(this.id, other.id)
+                && Objects.equals(this.name, other.name)
+                && Objects.equals(this.date, other.date)
+                && Objects.equals(this.timeId, other.timeId)
+                && Objects.equals(this.themeId, other.themeId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, date, timeId, themeId);
+    }
+
+    @Override
+    public String toString() {
+        return "CompactReservationResponse{" +
+                "id=" + id +
+                ", name='" + name + '\'' +
+                ", date='" + date + '\'' +
+                ", timeId=" + timeId +
+                ", themeId=" + themeId +
+                '}';
+    }
+}
@@ -0,0 +1,73 @@
+package roomescape.dto.reservation;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+public class DailyAvailabilityResponse {
+
+    private static final char AVAILABLE = '1';
+    private static final char UNAVAILABLE = '0';
+
+    private final String date;
+    private final int availableCount;
+    private final String slots;
+
+    private DailyAvailabilityResponse(String date, int availableCount, String slots) {
+        this.date = date;
+        this.availableCount = availableCount;
+        this.slots = slots;
+    }
+
+    public static DailyAvailabilityResponse of(LocalDate date, List<Boolean> availabilities) {
+        StringBuilder slots = new StringBuilder(availabilities.size());
+        int availableCount = 0;
+        for (boolean available : availabilities) {
+            if (available) {
+                availableCount++;
+            }
+            slots.append(available ? AVAILABLE : UNAVAILABLE);
+        }
+        return new DailyAvailabilityResponse(date.toString(), availableCount, slots.toString());
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public int getAvailableCount() {
+        return availableCount;
+    }
+
+    public String getSlots() {
+        return slots;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        DailyAvailabilityResponse other = (DailyAvailabilityResponse) o;
+        return this.availableCount == other.availableCount
+               && Objects.equals(this.date, other.date)
+               && Objects.equals(this.slots, other.slots);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(date, availableCount, slots);
+    }
+
+    @Override
+    public String toString() {
+        return "DailyAvailabilityResponse{" +
+               "date='" + date + '\'' +
+               ", availableCount=" + availableCount +
+               ", slots='" + slots + '\'' +
+               '}';
+    }
+}
@@ -0,0 +1,58 @@
+package roomescape.dto.reservation;
+
+import java.util.List;
+import java.util.Objects;
+import roomescape.domain.reservation.ReservationBatchMode;
+
+public class ReservationBatchCreateRequest {
+
+    private final String mode;
+    private final List<ReservationCreateRequest> reservations;
+
+    private ReservationBatchCreateRequest(String mode, List<ReservationCreateRequest> reservations) {
+        this.mode = mode;
+        this.reservations = reservations;
+    }
+
+    public static ReservationBatchCreateRequest of(String mode, List<ReservationCreateRequest> reservations) {
+        return new ReservationBatchCreateRequest(mode, reservations);
+    }
+
+    public ReservationBatchMode toMode() {
+        return ReservationBatchMode.from(mode);
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public List<ReservationCreateRequest> getReservations() {
+        return reservations;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ReservationBatchCreateRequest other = (ReservationBatchCreateRequest) o;
+        return Objects.equals(this.mode, other.mode)
+               && Objects.equals(this.reservations, other.reservations);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(mode, reservations);
+    }
+
+    @Override
+    public String toString() {
+        return "ReservationBatchCreateRequest{" +
+               "mode='" + mode + '\'' +
+               ", reservations=" + reservations +
+               '}';
+    }
+}
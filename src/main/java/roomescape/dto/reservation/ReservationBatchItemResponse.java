@@ -0,0 +1,80 @@
+package roomescape.dto.reservation;
+
+import java.util.Objects;
+import roomescape.domain.reservation.Reservation;
+
+public class ReservationBatchItemResponse {
+
+    private final int index;
+    private final boolean created;
+    private final ReservationResponse reservation;
+    private final String message;
+
+    private ReservationBatchItemResponse(int index, boolean created, ReservationResponse reservation, String message) {
+        this.index = index;
+        this.created = created;
+        this.reservation = reservation;
+        this.message = message;
+    }
+
+    public static ReservationBatchItemResponse created(int index, Reservation reservation) {
+        return new ReservationBatchItemResponse(index, true, ReservationResponse.from(reservation), null);
+    }
+
+    public static ReservationBatchItemResponse failed(int index, String message) {
+        return new ReservationBatchItemResponse(index, false, null, message);
+    }
+
+    public static ReservationBatchItemResponse of(int index,
+                                                  boolean created,
+                                                  ReservationResponse reservation,
+                                                  String message) {
+        return new ReservationBatchItemResponse(index, created, reservation, message);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public boolean isCreated() {
+        return created;
+    }
+
+    public ReservationResponse getReservation() {
+        return reservation;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ReservationBatchItemResponse other = (ReservationBatchItemResponse) o;
+        return this.index == other.index
+               && this.created == other.created
+               && Objects.equals(this.reservation, other.reservation)
+               && Objects.equals(this.message, other.message);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, created, reservation, message);
+    }
+
+    @Override
+    public String toString() {
+        return "ReservationBatchItemResponse{" +
+               "index=" + index +
+               ", created=" + created +
+               ", reservation=" + reservation +
+               ", message='" + message + '\'' +
+               '}';
+    }
+}
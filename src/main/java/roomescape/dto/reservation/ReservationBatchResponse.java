@@ -0,0 +1,80 @@
+package roomescape.dto.reservation;
+
+import java.util.List;
+import java.util.Objects;
+import roomescape.domain.reservation.ReservationBatchMode;
+
+public class ReservationBatchResponse {
+
+    private final String mode;
+    private final int createdCount;
+    private final int failedCount;
+    private final List<ReservationBatchItemResponse> results;
+
+    private ReservationBatchResponse(String mode,
+                                     int createdCount,
+                                     int failedCount,
+                                     List<ReservationBatchItemResponse> results) {
+        this.mode = mode;
+        this.createdCount = createdCount;
+        this.failedCount = failedCount;
+        this.results = results;
+    }
+
+    public static ReservationBatchResponse of(ReservationBatchMode mode, List<ReservationBatchItemResponse> results) {
+        int createdCount = (int) results.stream()
+                .filter(ReservationBatchItemResponse::isCreated)
+                .count();
+        return new ReservationBatchResponse(mode.name(), createdCount, results.size() - createdCount, results);
+    }
+
+    public boolean hasCreated() {
+        return createdCount > 0;
+    }
+
+    public String getMode() {
+        return mode;
+    }
+
+    public int getCreatedCount() {
+        return createdCount;
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    public List<ReservationBatchItemResponse> getResults() {
+        return results;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ReservationBatchResponse other = (ReservationBatchResponse) o;
+        return this.createdCount == other.createdCount
+               && this.failedCount == other.failedCount
+               && Objects.equals(this.mode, other.mode)
+               && Objects.equals(this.results, other.results);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(mode, createdCount, failedCount, results);
+    }
+
+    @Override
+    public String toString() {
+        return "ReservationBatchResponse{" +
+               "mode='" + mode + '\'' +
+               ", createdCount=" + createdCount +
+               ", failedCount=" + failedCount +
+               ", results=" + results +
+               '}';
+    }
+}
@@ -0,0 +1,84 @@
+package roomescape.dto.reservation;
+
+import java.util.Objects;
+import roomescape.domain.reservation.ReservationPeriod;
+
+public class ReservationCalendarRequest {
+
+    private final Long themeId;
+    private final String month;
+    private final String startDate;
+    private final String endDate;
+
+    private ReservationCalendarRequest(Long themeId, String month, String startDate, String endDate) {
+        this.themeId = themeId;
+        this.month = month;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    public static ReservationCalendarRequest of(Long themeId, String month, String startDate, String endDate) {
+        return new ReservationCalendarRequest(themeId, month, startDate, endDate);
+    }
+
+    public ReservationPeriod toPeriod() {
+        boolean hasMonth = month != null && !month.isBlank();
+        boolean hasRange = startDate != null || endDate != null;
+        if (hasMonth && hasRange) {
+            throw new IllegalArgumentException("조회 월과 조회 기간은 함께 입력할 수 없습니다.");
+        }
+        if (hasMonth) {
+            return ReservationPeriod.ofMonth(month);
+        }
+        if (!hasRange) {
+            throw new IllegalArgumentException("조회 월 또는 조회 기간을 입력해야 합니다.");
+        }
+        return ReservationPeriod.of(startDate, endDate);
+    }
+
+    public Long getThemeId() {
+        return themeId;
+    }
+
+    public String getMonth() {
+        return month;
+    }
+
+    public String getStartDate() {
+        return startDate;
+    }
+
+    public String getEndDate() {
+        return endDate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ReservationCalendarRequest other = (ReservationCalendarRequest) o;
+        return Objects.equals(this.themeId, other.themeId)
+               && Objects.equals(this.month, other.month)
+               && Objects.equals(this.startDate, other.startDate)
+               && Objects.equals(this.endDate, other.endDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(themeId, month, startDate, endDate);
+    }
+
+    @Override
+    public String toString() {
+        return "ReservationCalendarRequest{" +
+               "themeId=" + themeId +
+               ", month='" + month + '\'' +
+               ", startDate='" + startDate + '\'' +
+               ", endDate='" + endDate + '\'' +
+               '}';
+    }
+}
@@ -0,0 +1,70 @@
+package roomescape.dto.reservation;
+
+import java.util.List;
+import java.util.Objects;
+import roomescape.domain.reservationtime.ReservationTime;
+import roomescape.dto.reservationtime.ReservationTimeResponse;
+
+public class ReservationCalendarResponse {
+
+    private final Long themeId;
+    private final List<ReservationTimeResponse> times;
+    private final List<DailyAvailabilityResponse> days;
+
+    private ReservationCalendarResponse(Long themeId,
+                                        List<ReservationTimeResponse> times,
+                                        List<DailyAvailabilityResponse> days) {
+        this.themeId = themeId;
+        this.times = times;
+        this.days = days;
+    }
+
+    public static ReservationCalendarResponse of(Long themeId,
+                                                 List<ReservationTime> times,
+                                                 List<DailyAvailabilityResponse> days) {
+        List<ReservationTimeResponse> timeResponses = times.stream()
+                .map(ReservationTimeResponse::from)
+                .toList();
+        return new ReservationCalendarResponse(themeId, timeResponses, days);
+    }
+
+    public Long getThemeId() {
+        return themeId;
+    }
+
+    public List<ReservationTimeResponse> getTimes() {
+        return times;
+    }
+
+    public List<DailyAvailabilityResponse> getDays() {
+        return days;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ReservationCalendarResponse other = (ReservationCalendarResponse) o;
+        return Objects.equals(this.themeId, other.themeId)
+               && Objects.equals(this.times, other.times)
+               && Objects.equals(this.days, other.days);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(themeId, times, days);
+    }
+
+    @Override
+    public String toString() {
+        return "ReservationCalendarResponse{" +
+               "themeId=" + themeId +
+               ", times=" + times +
+               ", days=" + days +
+               '}';
+    }
+}
@@ -13,16 +13,26 @@ public class ReservationCreateRequest {
     private final String date;
     private final Long timeId;
     private final Long themeId;
+    private final String holdToken;
 
-    private ReservationCreateRequest(String name, String date, Long timeId, Long themeId) {
+    private ReservationCreateRequest(String name, String date, Long timeId, Long themeId, String holdToken) {
         this.name = name;
         this.date = date;
         this.timeId = timeId;
         this.themeId = themeId;
+        this.holdToken = holdToken;
     }
 
     public static ReservationCreateRequest of(String name, String date, Long timeId, Long themeId) {
-        return new ReservationCreateRequest(name, date, timeId, themeId);
+        return new ReservationCreateRequest(name, date, timeId, themeId, null);
+    }
+
+    public static ReservationCreateRequest of(String name,
+                                              String date,
+                                              Long timeId,
+                                              Long themeId,
+                                              String holdToken) {
+        return new ReservationCreateRequest(name, date, timeId, themeId, holdToken);
     }
 
     public Reservation toDomain(ReservationTime reservationTime, Theme theme) {
@@ -51,6 +61,10 @@ public class ReservationCreateRequest {
         return themeId;
     }
 
+    public String getHoldToken() {
+        return holdToken;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -63,12 +77,13 @@ public class ReservationCreateRequest {
         return Objects.equals(this.name, other.name)
                && Objects.equals(this.date, other.date)
                && Objects.equals(this.timeId, other.timeId)
-               && Objects.equals(this.themeId, other.themeId);
+               && Objects.equals(this.themeId, other.themeId)
+               && Objects.equals(this.holdToken, other.holdToken);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, date, timeId, themeId);
+        return Objects.hash(name, date, timeId, themeId, holdToken);
     }
 
     @Override
@@ -78,6 +93,7 @@ public class ReservationCreateRequest {
                ", date='" + date + '\'' +
                ", timeId=" + timeId +
                ", themeId=" + themeId +
+               ", holdToken='" + holdToken + '\'' +
                '}';
     }
 }
@@ -0,0 +1,99 @@
+package roomescape.dto.reservation;
+
+import java.util.Objects;
+import roomescape.domain.reservation.ReservationSearchCondition;
+
+public class ReservationSearchRequest {
+
+    private final Long lastId;
+    private final Integer size;
+    private final String dateFrom;
+    private final String dateTo;
+    private final Long themeId;
+    private final Long timeId;
+
+    private ReservationSearchRequest(Long lastId,
+                                     Integer size,
+                                     String dateFrom,
+                                     String dateTo,
+                                     Long themeId,
+                                     Long timeId) {
+        this.lastId = lastId;
+        this.size = size;
+        this.dateFrom = dateFrom;
+        this.dateTo = dateTo;
+        this.themeId = themeId;
+        this.timeId = timeId;
+    }
+
+    public static ReservationSearchRequest of(Long lastId,
+                                              Integer size,
+                                              String dateFrom,
+                                              String dateTo,
+                                              Long themeId,
+                                              Long timeId) {
+        return new ReservationSearchRequest(lastId, size, dateFrom, dateTo, themeId, timeId);
+    }
+
+    public ReservationSearchCondition toDomain() {
+        return ReservationSearchCondition.of(lastId, size, dateFrom, dateTo, themeId, timeId);
+    }
+
+    public Long getLastId() {
+        return lastId;
+    }
+
+    public Integer getSize() {
+        return size;
+    }
+
+    public String getDateFrom() {
+        return dateFrom;
+    }
+
+    public String getDateTo() {
+        return dateTo;
+    }
+
+    public Long getThemeId() {
+        return themeId;
+    }
+
+    public Long getTimeId() {
+        return timeId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ReservationSearchRequest other = (ReservationSearchRequest) o;
+        return Objects.equals(this.lastId, other.lastId)
+               && Objects.equals(this.size, other.size)
+               && Objects.equals(this.dateFrom, other.dateFrom)
+               && Objects.equals(this.dateTo, other.dateTo)
+               && Objects.equals(this.themeId, other.themeId)
+               && Objects.equals(this.timeId, other.timeId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lastId, size, dateFrom, dateTo, themeId, timeId);
+    }
+
+    @Override
+    public String toString() {
+        return "ReservationSearchRequest{" +
+               "lastId=" + lastId +
+               ", size=" + size +
+               ", dateFrom='" + dateFrom + '\'' +
+               ", dateTo='" + dateTo + '\'' +
+               ", themeId=" + themeId +
+               ", timeId=" + timeId +
+               '}';
+    }
+}
@@ -0,0 +1,95 @@
+package roomescape.dto.reservation;
+
+import java.util.Objects;
+import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.ReservationSlot;
+import roomescape.domain.reservationtime.ReservationTime;
+
+public class SlotChangeResponse {
+
+    private final String date;
+    private final Long themeId;
+    private final Long timeId;
+    private final String startAt;
+    private final boolean alreadyBooked;
+
+    private SlotChangeResponse(String date, Long themeId, Long timeId, String startAt, boolean alreadyBooked) {
+        this.date = date;
+        this.themeId = themeId;
+        this.timeId = timeId;
+        this.startAt = startAt;
+        this.alreadyBooked = alreadyBooked;
+    }
+
+    public static SlotChangeResponse of(Reservation reservation, boolean alreadyBooked) {
+        return new SlotChangeResponse(
+                reservation.getDate().toStringDate(),
+                reservation.getTheme().getId(),
+                reservation.getReservationTime().getId(),
+                reservation.getReservationTime().getStartAt().toStringTime(),
+                alreadyBooked
+        );
+    }
+
+    public static SlotChangeResponse of(ReservationSlot slot, ReservationTime time, boolean alreadyBooked) {
+        return new SlotChangeResponse(
+                slot.getDate().toString(),
+                slot.getThemeId(),
+                slot.getTimeId(),
+                time.getStartAt().toStringTime(),
+                alreadyBooked
+        );
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public Long getThemeId() {
+        return themeId;
+    }
+
+    public Long getTimeId() {
+        return timeId;
+    }
+
+    public String getStartAt() {
+        return startAt;
+    }
+
+    public boolean isAlreadyBooked() {
+        return alreadyBooked;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SlotChangeResponse other = (SlotChangeResponse) o;
+        return this.alreadyBooked == other.alreadyBooked
+               && Objects.equals(this.date, other.date)
+               && Objects.equals(this.themeId, other.themeId)
+               && Objects.equals(this.timeId, other.timeId)
+               && Objects.equals(this.startAt, other.startAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(date, themeId, timeId, startAt, alreadyBooked);
+    }
+
+    @Override
+    public String toString() {
+        return "SlotChangeResponse{" +
+               "date='" + date + '\'' +
+               ", themeId=" + themeId +
+               ", timeId=" + timeId +
+               ", startAt='" + startAt + '\'' +
+               ", alreadyBooked=" + alreadyBooked +
+               '}';
+    }
+}
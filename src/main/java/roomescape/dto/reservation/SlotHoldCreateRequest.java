@@ -0,0 +1,65 @@
+package roomescape.dto.reservation;
+
+import java.util.Objects;
+import roomescape.domain.reservation.ReservationDate;
+
+public class SlotHoldCreateRequest {
+
+    private final String date;
+    private final Long themeId;
+    private final Long timeId;
+
+    private SlotHoldCreateRequest(String date, Long themeId, Long timeId) {
+        this.date = date;
+        this.themeId = themeId;
+        this.timeId = timeId;
+    }
+
+    public static SlotHoldCreateRequest of(String date, Long themeId, Long timeId) {
+        return new SlotHoldCreateRequest(date, themeId, timeId);
+    }
+
+    public ReservationDate toDate() {
+        return ReservationDate.from(date);
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public Long getThemeId() {
+        return themeId;
+    }
+
+    public Long getTimeId() {
+        return timeId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SlotHoldCreateRequest other = (SlotHoldCreateRequest) o;
+        return Objects.equals(this.date, other.date)
+               && Objects.equals(this.themeId, other.themeId)
+               && Objects.equals(this.timeId, other.timeId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(date, themeId, timeId);
+    }
+
+    @Override
+    public String toString() {
+        return "SlotHoldCreateRequest{" +
+               "date='" + date + '\'' +
+               ", themeId=" + themeId +
+               ", timeId=" + timeId +
+               '}';
+    }
+}
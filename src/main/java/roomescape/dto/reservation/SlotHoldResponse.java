@@ -0,0 +1,87 @@
+package roomescape.dto.reservation;
+
+import java.util.Objects;
+import roomescape.domain.reservation.SlotHold;
+
+public class SlotHoldResponse {
+
+    private final String token;
+    private final String date;
+    private final Long themeId;
+    private final Long timeId;
+    private final String expiresAt;
+
+    private SlotHoldResponse(String token, String date, Long themeId, Long timeId, String expiresAt) {
+        this.token = token;
+        this.date = date;
+        this.themeId = themeId;
+        this.timeId = timeId;
+        this.expiresAt = expiresAt;
+    }
+
+    public static SlotHoldResponse of(String token, String date, Long themeId, Long timeId, String expiresAt) {
+        return new SlotHoldResponse(token, date, themeId, timeId, expiresAt);
+    }
+
+    public static SlotHoldResponse from(SlotHold hold) {
+        return new SlotHoldResponse(
+                hold.getToken(),
+                hold.getSlot().getDate().toString(),
+                hold.getSlot().getThemeId(),
+                hold.getSlot().getTimeId(),
+                hold.getExpiresAt().toString()
+        );
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public Long getThemeId() {
+        return themeId;
+    }
+
+    public Long getTimeId() {
+        return timeId;
+    }
+
+    public String getExpiresAt() {
+        return expiresAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SlotHoldResponse other = (SlotHoldResponse) o;
+        return Objects.equals(this.token, other.token)
+               && Objects.equals(this.date, other.date)
+               && Objects.equals(this.themeId, other.themeId)
+               && Objects.equals(this.timeId, other.timeId)
+               && Objects.equals(this.expiresAt, other.expiresAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(token, date, themeId, timeId, expiresAt);
+    }
+
+    @Override
+    public String toString() {
+        return "SlotHoldResponse{" +
+               "token='" + token + '\'' +
+               ", date='" + date + '\'' +
+               ", themeId=" + themeId +
+               ", timeId=" + timeId +
+               ", expiresAt='" + expiresAt + '\'' +
+               '}';
+    }
+}
@@ -0,0 +1,65 @@
+package roomescape.dto.reservationtime;
+
+import java.util.Objects;
+import roomescape.domain.reservationtime.ReservationTimeRange;
+
+public class ReservationTimeBulkCreateRequest {
+
+    private final String startAt;
+    private final String endAt;
+    private final Integer intervalMinutes;
+
+    private ReservationTimeBulkCreateRequest(String startAt, String endAt, Integer intervalMinutes) {
+        this.startAt = startAt;
+        this.endAt = endAt;
+        this.intervalMinutes = intervalMinutes;
+    }
+
+    public static ReservationTimeBulkCreateRequest of(String startAt, String endAt, Integer intervalMinutes) {
+        return new ReservationTimeBulkCreateRequest(startAt, endAt, intervalMinutes);
+    }
+
+    public ReservationTimeRange toDomain() {
+        return ReservationTimeRange.of(startAt, endAt, intervalMinutes);
+    }
+
+    public String getStartAt() {
+        return startAt;
+    }
+
+    public String getEndAt() {
+        return endAt;
+    }
+
+    public Integer getIntervalMinutes() {
+        return intervalMinutes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ReservationTimeBulkCreateRequest other = (ReservationTimeBulkCreateRequest) o;
+        return Objects.equals(this.startAt, other.startAt)
+                && Objects.equals(this.endAt, other.endAt)
+                && Objects.equals(this.intervalMinutes, other.intervalMinutes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(startAt, endAt, intervalMinutes);
+    }
+
+    @Override
+    public String toString() {
+        return "ReservationTimeBulkCreateRequest{" +
+                "startAt='" + startAt + '\'' +
+                ", endAt='" + endAt + '\'' +
+                ", intervalMinutes=" + intervalMinutes +
+                '}';
+    }
+}
@@ -0,0 +1,157 @@
+package roomescape.event;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.ReservationSlot;
+import roomescape.domain.reservation.SlotKey;
+import roomescape.domain.reservationtime.ReservationTime;
+import roomescape.dto.reservation.SlotChangeResponse;
+
+@Component
+public class SlotChangeBroadcaster {
+
+    private static final long TIMEOUT_MILLIS = Duration.ofMinutes(30).toMillis();
+    private static final int BUFFER_SIZE = 64;
+    private static final int DISPATCHER_THREADS = 4;
+    private static final String SUBSCRIBER_LIMIT_MESSAGE = "예약 변경 이벤트 구독자가 너무 많습니다. 잠시 후 다시 시도해주세요.";
+
+    private final long heartbeatMillis;
+    private final int maxSubscribersPerKey;
+    private final int maxSubscribers;
+    private final Map<SlotKey, Set<SlotSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService dispatcher = Executors.newFixedThreadPool(
+            DISPATCHER_THREADS,
+            SlotChangeBroadcaster::createDispatcherThread
+    );
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(
+            SlotChangeBroadcaster::createHeartbeatThread
+    );
+
+    public SlotChangeBroadcaster(@Value("${reservation.slot-events.heartbeat-millis}") long heartbeatMillis,
+                                 @Value("${reservation.slot-events.max-subscribers-per-key}") int maxSubscribersPerKey,
+                                 @Value("${reservation.slot-events.max-subscribers}") int maxSubscribers) {
+        this.heartbeatMillis = heartbeatMillis;
+        this.maxSubscribersPerKey = maxSubscribersPerKey;
+        this.maxSubscribers = maxSubscribers;
+    }
+
+    private static Thread createDispatcherThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "slot-event-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static Thread createHeartbeatThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "slot-event-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    @PostConstruct
+    public void start() {
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeats, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(LocalDate date, Long themeId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new SlotSubscriptionLimitException(SUBSCRIBER_LIMIT_MESSAGE);
+        }
+        SseEmitter emitter = new SseEmitter(TIMEOUT_MILLIS);
+        SlotKey key = new SlotKey(date, themeId);
+        SlotSubscriber subscriber = new SlotSubscriber(emitter, BUFFER_SIZE);
+        Set<SlotSubscriber> joined = subscribers.compute(key, (slotKey, current) -> {
+            Set<SlotSubscriber> updated = current == null ? ConcurrentHashMap.newKeySet() : current;
+            if (updated.size() < maxSubscribersPerKey) {
+                updated.add(subscriber);
+            }
+            return updated;
+        });
+        if (!joined.contains(subscriber)) {
+            subscriberCount.decrementAndGet();
+            throw new SlotSubscriptionLimitException(SUBSCRIBER_LIMIT_MESSAGE);
+        }
+        emitter.onCompletion(() -> unsubscribe(key, subscriber));
+        emitter.onTimeout(() -> unsubscribe(key, subscriber));
+        emitter.onError(e -> unsubscribe(key, subscriber));
+        return emitter;
+    }
+
+    public void publish(Reservation reservation, boolean alreadyBooked) {
+        publish(SlotKey.from(reservation), () -> SlotChangeResponse.of(reservation, alreadyBooked));
+    }
+
+    public void publish(ReservationSlot slot, ReservationTime time, boolean alreadyBooked) {
+        publish(SlotKey.from(slot), () -> SlotChangeResponse.of(slot, time, alreadyBooked));
+    }
+
+    private void publish(SlotKey key, Supplier<SlotChangeResponse> eventSupplier) {
+        Set<SlotSubscriber> targets = subscribers.get(key);
+        if (targets == null) {
+            return;
+        }
+        SlotChangeResponse event = eventSupplier.get();
+        for (SlotSubscriber subscriber : targets) {
+            if (!subscriber.offer(event)) {
+                unsubscribe(key, subscriber);
+                subscriber.close();
+                continue;
+            }
+            if (subscriber.startDraining()) {
+                dispatcher.execute(subscriber::drain);
+            }
+        }
+    }
+
+    private void sendHeartbeats() {
+        for (Set<SlotSubscriber> targets : subscribers.values()) {
+            for (SlotSubscriber subscriber : targets) {
+                if (subscriber.startDraining()) {
+                    dispatcher.execute(subscriber::heartbeat);
+                }
+            }
+        }
+    }
+
+    public int countSubscribers() {
+        return subscriberCount.get();
+    }
+
+    private void unsubscribe(SlotKey key, SlotSubscriber subscriber) {
+        if (!subscriber.unsubscribe()) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        subscribers.computeIfPresent(key, (slotKey, current) -> {
+            current.remove(subscriber);
+            return current.isEmpty() ? null : current;
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        heartbeat.shutdownNow();
+        dispatcher.shutdownNow();
+        Set<SlotSubscriber> remaining = new HashSet<>();
+        subscribers.values().forEach(remaining::addAll);
+        subscribers.clear();
+        remaining.forEach(SlotSubscriber::close);
+    }
+}
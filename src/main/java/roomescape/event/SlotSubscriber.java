@@ -0,0 +1,72 @@
+package roomescape.event;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import roomescape.dto.reservation.SlotChangeResponse;
+
+class SlotSubscriber {
+
+    private static final String EVENT_NAME = "slot";
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final SseEmitter emitter;
+    private final Queue<SlotChangeResponse> buffer;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean subscribed = new AtomicBoolean(true);
+
+    SlotSubscriber(SseEmitter emitter, int bufferSize) {
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    boolean offer(SlotChangeResponse event) {
+        return buffer.offer(event);
+    }
+
+    boolean startDraining() {
+        return draining.compareAndSet(false, true);
+    }
+
+    boolean unsubscribe() {
+        return subscribed.compareAndSet(true, false);
+    }
+
+    void heartbeat() {
+        if (!send(SseEmitter.event().comment(HEARTBEAT_COMMENT))) {
+            buffer.clear();
+            return;
+        }
+        drain();
+    }
+
+    void drain() {
+        do {
+            SlotChangeResponse event;
+            while ((event = buffer.poll()) != null) {
+                if (!send(SseEmitter.event().name(EVENT_NAME).data(event))) {
+                    buffer.clear();
+                    return;
+                }
+            }
+            draining.set(false);
+        } while (!buffer.isEmpty() && startDraining());
+    }
+
+    private boolean send(SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    void close() {
+        buffer.clear();
+        emitter.complete();
+    }
+}
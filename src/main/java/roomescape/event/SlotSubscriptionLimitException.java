@@ -0,0 +1,8 @@
+package roomescape.event;
+
+public class SlotSubscriptionLimitException extends RuntimeException {
+
+    public SlotSubscriptionLimitException(String message) {
+        super(message);
+    }
+}
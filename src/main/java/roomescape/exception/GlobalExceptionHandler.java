@@ -1,8 +1,14 @@
 package roomescape.exception;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import roomescape.commit.ReservationCommitException;
+import roomescape.event.SlotSubscriptionLimitException;
+import roomescape.idempotency.IdempotencyKeyMismatchException;
+import roomescape.idempotency.IdempotencyStoreFullException;
+import roomescape.idempotency.IdempotentRequestInProgressException;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
@@ -12,4 +18,34 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest()
                 .body(e.getMessage());
     }
+
+    @ExceptionHandler(value = ReservationCommitException.class)
+    public ResponseEntity<String> handleReservationCommitException(ReservationCommitException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(e.getMessage());
+    }
+
+    @ExceptionHandler(value = IdempotencyKeyMismatchException.class)
+    public ResponseEntity<String> handleIdempotencyKeyMismatchException(IdempotencyKeyMismatchException e) {
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(e.getMessage());
+    }
+
+    @ExceptionHandler(value = IdempotencyStoreFullException.class)
+    public ResponseEntity<String> handleIdempotencyStoreFullException(IdempotencyStoreFullException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(e.getMessage());
+    }
+
+    @ExceptionHandler(value = IdempotentRequestInProgressException.class)
+    public ResponseEntity<String> handleIdempotentRequestInProgressException(IdempotentRequestInProgressException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(e.getMessage());
+    }
+
+    @ExceptionHandler(value = SlotSubscriptionLimitException.class)
+    public ResponseEntity<String> handleSlotSubscriptionLimitException(SlotSubscriptionLimitException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(e.getMessage());
+    }
 }
@@ -0,0 +1,160 @@
+package roomescape.generator;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+
+public class ReservationSlotSampler {
+
+    private final LocalDate startDate;
+    private final int days;
+    private final int themeCount;
+    private final int timeCount;
+    private final double[] cumulativeThemeWeights;
+    private final double weekendWeight;
+    private final Random random;
+
+    private ReservationSlotSampler(LocalDate startDate,
+                                   int days,
+                                   int themeCount,
+                                   int timeCount,
+                                   double[] cumulativeThemeWeights,
+                                   double weekendWeight,
+                                   Random random) {
+        this.startDate = startDate;
+        this.days = days;
+        this.themeCount = themeCount;
+        this.timeCount = timeCount;
+        this.cumulativeThemeWeights = cumulativeThemeWeights;
+        this.weekendWeight = weekendWeight;
+        this.random = random;
+    }
+
+    public static ReservationSlotSampler of(LocalDate startDate,
+                                            int days,
+                                            int themeCount,
+                                            int timeCount,
+                                            double hotThemeRatio,
+                                            double hotThemeShare,
+                                            double weekendWeight,
+                                            long seed) {
+        validatePositive(days, "생성 일수");
+        validatePositive(themeCount, "테마 개수");
+        validatePositive(timeCount, "시간 개수");
+        validateRatio(hotThemeRatio, "인기 테마 비율");
+        validateRatio(hotThemeShare, "인기 테마 예약 비중");
+        if (weekendWeight <= 0) {
+            throw new IllegalArgumentException("주말 가중치는 0보다 커야 합니다.");
+        }
+        double[] cumulativeThemeWeights = toCumulativeThemeWeights(themeCount, hotThemeRatio, hotThemeShare);
+        return new ReservationSlotSampler(
+                startDate, days, themeCount, timeCount, cumulativeThemeWeights, weekendWeight, new Random(seed)
+        );
+    }
+
+    private static void validatePositive(int value, String name) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(name + "는 0보다 커야 합니다.");
+        }
+    }
+
+    private static void validateRatio(double value, String name) {
+        if (value < 0 || value > 1) {
+            throw new IllegalArgumentException(name + "은 0 이상 1 이하여야 합니다.");
+        }
+    }
+
+    private static double[] toCumulativeThemeWeights(int themeCount, double hotThemeRatio, double hotThemeShare) {
+        int hotThemeCount = (int) Math.ceil(themeCount * hotThemeRatio);
+        int coldThemeCount = themeCount - hotThemeCount;
+        if (hotThemeCount == 0 || coldThemeCount == 0) {
+            hotThemeShare = (double) hotThemeCount / themeCount;
+        }
+        double[] cumulative = new double[themeCount];
+        double total = 0;
+        for (int theme = 0; theme < themeCount; theme++) {
+            if (theme < hotThemeCount) {
+                total += hotThemeShare / hotThemeCount;
+            } else {
+                total += (1 - hotThemeShare) / coldThemeCount;
+            }
+            cumulative[theme] = total;
+        }
+        return cumulative;
+    }
+
+    public void sample(long count, SlotConsumer consumer) {
+        long capacity = (long) days * themeCount * timeCount;
+        if (count > capacity) {
+            throw new IllegalArgumentException("생성할 예약 수가 가능한 예약 슬롯 수(" + capacity + ")를 초과합니다.");
+        }
+        long[] quotas = toDailyQuotas(count);
+        for (int day = 0; day < days; day++) {
+            sampleDay(startDate.plusDays(day), quotas[day], consumer);
+        }
+    }
+
+    private long[] toDailyQuotas(long count) {
+        double[] dayWeights = new double[days];
+        double totalWeight = 0;
+        for (int day = 0; day < days; day++) {
+            dayWeights[day] = isWeekend(startDate.plusDays(day)) ? weekendWeight : 1;
+            totalWeight += dayWeights[day];
+        }
+        long dailyCapacity = (long) themeCount * timeCount;
+        long[] quotas = new long[days];
+        long assigned = 0;
+        for (int day = 0; day < days; day++) {
+            quotas[day] = Math.min(dailyCapacity, (long) (count * dayWeights[day] / totalWeight));
+            assigned += quotas[day];
+        }
+        for (int day = 0; assigned < count; day = (day + 1) % days) {
+            if (quotas[day] < dailyCapacity) {
+                quotas[day]++;
+                assigned++;
+            }
+        }
+        return quotas;
+    }
+
+    private boolean isWeekend(LocalDate date) {
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+        return dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
+    }
+
+    private void sampleDay(LocalDate date, long quota, SlotConsumer consumer) {
+        int dailyCapacity = themeCount * timeCount;
+        BitSet booked = new BitSet(dailyCapacity);
+        for (long i = 0; i < quota; i++) {
+            int slot = findFreeSlot(booked, nextTheme() * timeCount + random.nextInt(timeCount), dailyCapacity);
+            booked.set(slot);
+            consumer.accept(date, slot / timeCount, slot % timeCount);
+        }
+    }
+
+    private int nextTheme() {
+        int index = Arrays.binarySearch(cumulativeThemeWeights, random.nextDouble() * lastCumulativeWeight());
+        int theme = index >= 0 ? index : -index - 1;
+        return Math.min(theme, themeCount - 1);
+    }
+
+    private double lastCumulativeWeight() {
+        return cumulativeThemeWeights[themeCount - 1];
+    }
+
+    private int findFreeSlot(BitSet booked, int candidate, int dailyCapacity) {
+        int slot = booked.nextClearBit(candidate);
+        if (slot < dailyCapacity) {
+            return slot;
+        }
+        return booked.nextClearBit(0);
+    }
+
+    @FunctionalInterface
+    public interface SlotConsumer {
+
+        void accept(LocalDate date, int themeIndex, int timeIndex);
+    }
+}
@@ -0,0 +1,142 @@
+package roomescape.generator;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import roomescape.cache.CachedReservationTimeDao;
+import roomescape.cache.CachedThemeDao;
+import roomescape.cache.SlotOccupancyIndex;
+import roomescape.cache.ThemeReservationCounter;
+
+@Profile("load")
+@Component
+public class SyntheticDataGenerator implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+    private static final LocalTime FIRST_START_AT = LocalTime.of(9, 0);
+    private static final int TIME_INTERVAL_MINUTES = 30;
+    private static final int MAX_TIME_COUNT = 30;
+    private static final String THUMBNAIL = "https://i.pinimg.com/236x/6e/bc/46/6ebc461a94a49f9ea3b8bbe2204145d4.jpg";
+    private static final String[] NAMES = {"다온", "브라운", "솔라", "네오", "포비", "구구", "리사", "제임스"};
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CachedThemeDao cachedThemeDao;
+    private final CachedReservationTimeDao cachedReservationTimeDao;
+    private final SlotOccupancyIndex slotOccupancyIndex;
+    private final ThemeReservationCounter themeReservationCounter;
+    private final long reservationCount;
+    private final int themeCount;
+    private final int timeCount;
+    private final LocalDate startDate;
+    private final int days;
+    private final double hotThemeRatio;
+    private final double hotThemeShare;
+    private final double weekendWeight;
+    private final int batchSize;
+    private final long seed;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate,
+                                  CachedThemeDao cachedThemeDao,
+                                  CachedReservationTimeDao cachedReservationTimeDao,
+                                  SlotOccupancyIndex slotOccupancyIndex,
+                                  ThemeReservationCounter themeReservationCounter,
+                                  @Value("${generator.reservation-count}") long reservationCount,
+                                  @Value("${generator.theme-count}") int themeCount,
+                                  @Value("${generator.time-count}") int timeCount,
+                                  @Value("${generator.start-date}") String startDate,
+                                  @Value("${generator.days}") int days,
+                                  @Value("${generator.hot-theme-ratio}") double hotThemeRatio,
+                                  @Value("${generator.hot-theme-share}") double hotThemeShare,
+                                  @Value("${generator.weekend-weight}") double weekendWeight,
+                                  @Value("${generator.batch-size}") int batchSize,
+                                  @Value("${generator.seed}") long seed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cachedThemeDao = cachedThemeDao;
+        this.cachedReservationTimeDao = cachedReservationTimeDao;
+        this.slotOccupancyIndex = slotOccupancyIndex;
+        this.themeReservationCounter = themeReservationCounter;
+        this.reservationCount = reservationCount;
+        this.themeCount = themeCount;
+        this.timeCount = timeCount;
+        this.startDate = LocalDate.parse(startDate);
+        this.days = days;
+        this.hotThemeRatio = hotThemeRatio;
+        this.hotThemeShare = hotThemeShare;
+        this.weekendWeight = weekendWeight;
+        this.batchSize = batchSize;
+        this.seed = seed;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long startedAt = System.currentTimeMillis();
+        List<Long> timeIds = createTimes();
+        List<Long> themeIds = createThemes();
+        long createdCount = createReservations(timeIds, themeIds);
+        invalidateCaches();
+        log.info("{}개의 테마, {}개의 시간, {}개의 예약을 {}ms 동안 생성했습니다.",
+                themeIds.size(), timeIds.size(), createdCount, System.currentTimeMillis() - startedAt);
+    }
+
+    private List<Long> createTimes() {
+        if (timeCount > MAX_TIME_COUNT) {
+            throw new IllegalArgumentException("시간 개수는 " + MAX_TIME_COUNT + "개 이하여야 합니다.");
+        }
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < timeCount; i++) {
+            rows.add(new Object[]{Time.valueOf(FIRST_START_AT.plusMinutes((long) TIME_INTERVAL_MINUTES * i))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO reservation_time (start_at) VALUES (?)", rows);
+        return jdbcTemplate.queryForList("SELECT id FROM reservation_time ORDER BY start_at", Long.class);
+    }
+
+    private List<Long> createThemes() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 1; i <= themeCount; i++) {
+            rows.add(new Object[]{"테마" + i, i + "번 테마", THUMBNAIL});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO theme (name, description, thumbnail) VALUES (?, ?, ?)", rows);
+        return jdbcTemplate.queryForList("SELECT id FROM theme ORDER BY id", Long.class);
+    }
+
+    private long createReservations(List<Long> timeIds, List<Long> themeIds) {
+        String sql = "INSERT INTO reservation (name, date, time_id, theme_id) VALUES (?, ?, ?, ?)";
+        ReservationSlotSampler sampler = ReservationSlotSampler.of(
+                startDate, days, themeIds.size(), timeIds.size(), hotThemeRatio, hotThemeShare, weekendWeight, seed
+        );
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        long[] created = {0};
+        sampler.sample(reservationCount, (date, themeIndex, timeIndex) -> {
+            String name = NAMES[(int) (created[0] % NAMES.length)];
+            batch.add(new Object[]{name, Date.valueOf(date), timeIds.get(timeIndex), themeIds.get(themeIndex)});
+            created[0]++;
+            if (batch.size() == batchSize) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+        jdbcTemplate.execute("ANALYZE");
+        return created[0];
+    }
+
+    private void invalidateCaches() {
+        cachedThemeDao.invalidate();
+        cachedReservationTimeDao.invalidate();
+        slotOccupancyIndex.clear();
+        themeReservationCounter.clear();
+    }
+}
@@ -0,0 +1,105 @@
+package roomescape.hold;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import roomescape.domain.reservation.ReservationSlot;
+import roomescape.domain.reservation.SlotHold;
+
+@Component
+public class SlotHoldRegistry {
+
+    private static final long TICK_MILLIS = 1000;
+    private static final int WHEEL_SIZE = 512;
+
+    private final Duration ttl;
+    private final Map<ReservationSlot, SlotHold> holds = new ConcurrentHashMap<>();
+    private final Map<String, SlotHold> holdsByToken = new ConcurrentHashMap<>();
+    private final TimerWheel<SlotHold> expirations = new TimerWheel<>(WHEEL_SIZE);
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(
+            SlotHoldRegistry::createTickerThread
+    );
+
+    public SlotHoldRegistry(@Value("${reservation.hold.ttl-seconds}") long ttlSeconds) {
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    private static Thread createTickerThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "slot-hold-expiration");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    @PostConstruct
+    public void start() {
+        ticker.scheduleAtFixedRate(this::expire, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public Optional<SlotHold> hold(ReservationSlot slot, LocalDateTime now) {
+        SlotHold created = new SlotHold(UUID.randomUUID().toString(), slot, now.plus(ttl));
+        SlotHold current = holds.compute(
+                slot,
+                (key, existing) -> existing == null || existing.isExpired(now) ? created : existing
+        );
+        if (current != created) {
+            return Optional.empty();
+        }
+        holdsByToken.put(created.getToken(), created);
+        expirations.schedule(created, toTicks(ttl));
+        return Optional.of(created);
+    }
+
+    public boolean isHeld(ReservationSlot slot, LocalDateTime now) {
+        SlotHold hold = holds.get(slot);
+        return hold != null && !hold.isExpired(now);
+    }
+
+    public boolean isHeldByOther(ReservationSlot slot, String token, LocalDateTime now) {
+        SlotHold hold = holds.get(slot);
+        return hold != null && !hold.isExpired(now) && !hold.isHeldBy(token);
+    }
+
+    public Optional<SlotHold> findByToken(String token) {
+        return Optional.ofNullable(holdsByToken.get(token));
+    }
+
+    public void release(ReservationSlot slot, String token) {
+        SlotHold hold = holds.get(slot);
+        if (hold != null && hold.isHeldBy(token)) {
+            release(hold);
+        }
+    }
+
+    public void release(SlotHold hold) {
+        holds.remove(hold.getSlot(), hold);
+        holdsByToken.remove(hold.getToken(), hold);
+    }
+
+    public void clear() {
+        holds.clear();
+        holdsByToken.clear();
+    }
+
+    @PreDestroy
+    public void close() {
+        ticker.shutdownNow();
+    }
+
+    private void expire() {
+        expirations.advance().forEach(this::release);
+    }
+
+    private long toTicks(Duration duration) {
+        return (duration.toMillis() + TICK_MILLIS - 1) / TICK_MILLIS + 1;
+    }
+}
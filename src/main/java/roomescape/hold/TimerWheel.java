@@ -0,0 +1,52 @@
+package roomescape.hold;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+class TimerWheel<T> {
+
+    private final List<List<Entry<T>>> buckets;
+    private long currentTick;
+
+    TimerWheel(int size) {
+        this.buckets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            buckets.add(new ArrayList<>());
+        }
+    }
+
+    synchronized void schedule(T item, long delayTicks) {
+        long ticks = Math.max(delayTicks, 1);
+        int index = (int) ((currentTick + ticks) % buckets.size());
+        buckets.get(index).add(new Entry<>(item, (ticks - 1) / buckets.size()));
+    }
+
+    synchronized List<T> advance() {
+        currentTick++;
+        List<Entry<T>> bucket = buckets.get((int) (currentTick % buckets.size()));
+        List<T> expired = new ArrayList<>();
+        Iterator<Entry<T>> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Entry<T> entry = iterator.next();
+            if (entry.rounds == 0) {
+                expired.add(entry.item);
+                iterator.remove();
+                continue;
+            }
+            entry.rounds--;
+        }
+        return expired;
+    }
+
+    private static final class Entry<T> {
+
+        private final T item;
+        private long rounds;
+
+        private Entry(T item, long rounds) {
+            this.item = item;
+            this.rounds = rounds;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package roomescape.idempotency;
+
+public class IdempotencyStoreFullException extends RuntimeException {
+
+    public IdempotencyStoreFullException(String message) {
+        super(message);
+    }
+}
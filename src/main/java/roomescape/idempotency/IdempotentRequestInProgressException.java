@@ -0,0 +1,8 @@
+package roomescape.idempotency;
+
+public class IdempotentRequestInProgressException extends RuntimeException {
+
+    public IdempotentRequestInProgressException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,192 @@
+package roomescape.idempotency;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import roomescape.dto.reservation.ReservationCreateRequest;
+import roomescape.dto.reservation.ReservationResponse;
+
+@Component
+public class ReservationIdempotencyStore {
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final String STORE_FULL_MESSAGE = "처리 중인 멱등성 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.";
+    private static final String IN_PROGRESS_MESSAGE = "같은 멱등성 키의 예약을 처리하고 있습니다. 잠시 후 다시 시도해주세요.";
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final long awaitTimeoutNanos;
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    public ReservationIdempotencyStore(@Value("${reservation.idempotency.ttl-seconds}") long ttlSeconds,
+                                       @Value("${reservation.idempotency.max-entries}") int maxEntries,
+                                       @Value("${reservation.idempotency.await-timeout-millis}") long awaitTimeoutMillis) {
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.maxEntries = maxEntries;
+        this.awaitTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(awaitTimeoutMillis);
+    }
+
+    public ReservationResponse execute(String idempotencyKey,
+                                       ReservationCreateRequest request,
+                                       Supplier<Optional<ReservationResponse>> committed,
+                                       Supplier<ReservationResponse> action) {
+        validateKey(idempotencyKey);
+        Entry entry = new Entry(request, System.nanoTime() + ttlNanos);
+        Entry current = putIfAbsent(idempotencyKey, entry);
+        if (current != entry) {
+            current.validateSameRequest(request);
+            return current.await(awaitTimeoutNanos);
+        }
+        try {
+            ReservationResponse response = run(entry, committed, action);
+            entry.complete(response);
+            return response;
+        } catch (IllegalArgumentException e) {
+            remove(idempotencyKey, entry);
+            entry.fail(e);
+            throw e;
+        } catch (RuntimeException e) {
+            entry.failWithUnknownOutcome(e);
+            throw e;
+        }
+    }
+
+    private ReservationResponse run(Entry entry,
+                                    Supplier<Optional<ReservationResponse>> committed,
+                                    Supplier<ReservationResponse> action) {
+        if (entry.isRecovering()) {
+            return committed.get().orElseGet(action);
+        }
+        return action.get();
+    }
+
+    private void validateKey(String key) {
+        if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("멱등성 키는 1자 이상 " + MAX_KEY_LENGTH + "자 이하이어야 합니다.");
+        }
+    }
+
+    private synchronized Entry putIfAbsent(String key, Entry entry) {
+        evictExpired(System.nanoTime());
+        Entry current = entries.get(key);
+        if (current != null && !current.isOutcomeUnknown()) {
+            return current;
+        }
+        if (current != null) {
+            current.validateSameRequest(entry.request);
+            entries.remove(key);
+            entry.recover();
+        } else if (entries.size() >= maxEntries && !evictEldestCompleted()) {
+            throw new IdempotencyStoreFullException(STORE_FULL_MESSAGE);
+        }
+        entries.put(key, entry);
+        return entry;
+    }
+
+    private synchronized void remove(String key, Entry entry) {
+        entries.remove(key, entry);
+    }
+
+    private void evictExpired(long now) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (!entry.isExpired(now)) {
+                return;
+            }
+            if (entry.isCompleted()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private boolean evictEldestCompleted() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.isCompleted() && !entry.isOutcomeUnknown()) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Entry {
+
+        private final ReservationCreateRequest request;
+        private final long expiresAtNanos;
+        private final CompletableFuture<ReservationResponse> response = new CompletableFuture<>();
+        private boolean recovering;
+        private volatile boolean outcomeUnknown;
+
+        private Entry(ReservationCreateRequest request, long expiresAtNanos) {
+            this.request = request;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+
+        private boolean isCompleted() {
+            return response.isDone();
+        }
+
+        private boolean isOutcomeUnknown() {
+            return outcomeUnknown;
+        }
+
+        private boolean isRecovering() {
+            return recovering;
+        }
+
+        private void recover() {
+            recovering = true;
+        }
+
+        private void validateSameRequest(ReservationCreateRequest other) {
+            if (!Objects.equals(request, other)) {
+                throw new IdempotencyKeyMismatchException("같은 멱등성 키로 다른 예약을 요청할 수 없습니다.");
+            }
+        }
+
+        private void complete(ReservationResponse result) {
+            response.complete(result);
+        }
+
+        private void fail(RuntimeException e) {
+            response.completeExceptionally(e);
+        }
+
+        private void failWithUnknownOutcome(RuntimeException e) {
+            outcomeUnknown = true;
+            response.completeExceptionally(e);
+        }
+
+        private ReservationResponse await(long timeoutNanos) {
+            try {
+                return response.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                throw new IdempotentRequestInProgressException(IN_PROGRESS_MESSAGE);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IdempotentRequestInProgressException(IN_PROGRESS_MESSAGE);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+}
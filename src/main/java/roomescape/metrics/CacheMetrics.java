@@ -0,0 +1,41 @@
+package roomescape.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+import roomescape.cache.CacheStatistics;
+import roomescape.cache.CachedReservationTimeDao;
+import roomescape.cache.CachedThemeDao;
+
+@Component
+public class CacheMetrics implements MeterBinder {
+
+    private final CachedThemeDao cachedThemeDao;
+    private final CachedReservationTimeDao cachedReservationTimeDao;
+
+    public CacheMetrics(CachedThemeDao cachedThemeDao, CachedReservationTimeDao cachedReservationTimeDao) {
+        this.cachedThemeDao = cachedThemeDao;
+        this.cachedReservationTimeDao = cachedReservationTimeDao;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bind(registry, cachedThemeDao.getStatistics());
+        bind(registry, cachedReservationTimeDao.getStatistics());
+    }
+
+    private void bind(MeterRegistry registry, CacheStatistics statistics) {
+        FunctionCounter.builder("roomescape.cache.requests", statistics, CacheStatistics::getHitCount)
+                .tag("cache", statistics.getName())
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("roomescape.cache.requests", statistics, CacheStatistics::getMissCount)
+                .tag("cache", statistics.getName())
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("roomescape.cache.evictions", statistics, CacheStatistics::getEvictionCount)
+                .tag("cache", statistics.getName())
+                .register(registry);
+    }
+}
@@ -0,0 +1,40 @@
+package roomescape.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ReservationMetrics {
+
+    public static final String COUNTER_NAME = "roomescape.reservations";
+
+    private final Counter created;
+    private final Counter duplicated;
+    private final Counter past;
+
+    public ReservationMetrics(MeterRegistry meterRegistry) {
+        this.created = register(meterRegistry, "created");
+        this.duplicated = register(meterRegistry, "duplicated");
+        this.past = register(meterRegistry, "past");
+    }
+
+    private static Counter register(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(COUNTER_NAME)
+                .description("예약 생성 시도 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public void recordCreated() {
+        created.increment();
+    }
+
+    public void recordDuplicated() {
+        duplicated.increment();
+    }
+
+    public void recordPast() {
+        past.increment();
+    }
+}
@@ -0,0 +1,88 @@
+package roomescape.query;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+public class CountingDataSource extends DelegatingDataSource {
+
+    private final QueryCounter queryCounter;
+
+    public CountingDataSource(DataSource targetDataSource, QueryCounter queryCounter) {
+        super(targetDataSource);
+        this.queryCounter = queryCounter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (isIdentityMethod(method)) {
+                        return invokeIdentityMethod(proxy, method, args);
+                    }
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof Statement statement && method.getReturnType().isInterface()) {
+                        return wrap(statement, method.getReturnType());
+                    }
+                    return result;
+                }
+        );
+    }
+
+    private Object wrap(Statement statement, Class<?> statementType) {
+        return Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[]{statementType},
+                (proxy, method, args) -> {
+                    if (isIdentityMethod(method)) {
+                        return invokeIdentityMethod(proxy, method, args);
+                    }
+                    if (!method.getName().startsWith("execute")) {
+                        return invoke(statement, method, args);
+                    }
+                    long startNanos = System.nanoTime();
+                    try {
+                        return invoke(statement, method, args);
+                    } finally {
+                        queryCounter.record(System.nanoTime() - startNanos);
+                    }
+                }
+        );
+    }
+
+    private boolean isIdentityMethod(Method method) {
+        return method.getDeclaringClass() == Object.class;
+    }
+
+    private Object invokeIdentityMethod(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> proxy.getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+        };
+    }
+
+    private Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package roomescape.query;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class EndpointQueryStatistics {
+
+    private final String endpoint;
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder statementCount = new LongAdder();
+    private final LongAdder elapsedNanos = new LongAdder();
+    private final LongAccumulator maxStatementCount = new LongAccumulator(Math::max, 0);
+
+    public EndpointQueryStatistics(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public void record(QueryCount count) {
+        requestCount.increment();
+        statementCount.add(count.getStatementCount());
+        elapsedNanos.add(count.getElapsedNanos());
+        maxStatementCount.accumulate(count.getStatementCount());
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    public long getStatementCount() {
+        return statementCount.sum();
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos.sum();
+    }
+
+    public long getMaxStatementCount() {
+        return maxStatementCount.get();
+    }
+}
@@ -0,0 +1,26 @@
+package roomescape.query;
+
+import java.util.concurrent.TimeUnit;
+
+public class QueryCount {
+
+    private long statementCount;
+    private long elapsedNanos;
+
+    void record(long elapsedNanos) {
+        this.statementCount++;
+        this.elapsedNanos += elapsedNanos;
+    }
+
+    public long getStatementCount() {
+        return statementCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getElapsedMillis() {
+        return (double) elapsedNanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,48 @@
+package roomescape.query;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class QueryCountConfig {
+
+    @Bean
+    public static QueryCounter queryCounter() {
+        return new QueryCounter();
+    }
+
+    @Bean
+    public static BeanPostProcessor countingDataSourcePostProcessor(QueryCounter queryCounter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof CountingDataSource)) {
+                    return new CountingDataSource(dataSource, queryCounter);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public QueryStatistics queryStatistics(MeterRegistry meterRegistry) {
+        return new QueryStatistics(meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(
+            QueryCounter queryCounter,
+            QueryStatistics queryStatistics,
+            @Value("${query-count.response-headers:false}") boolean responseHeaders) {
+        FilterRegistrationBean<QueryCountFilter> registration = new FilterRegistrationBean<>(
+                new QueryCountFilter(queryCounter, queryStatistics, responseHeaders)
+        );
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+}
@@ -0,0 +1,69 @@
+package roomescape.query;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Set;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private static final Set<String> STREAMING_PATHS = Set.of("/reservations/slot-events", "/reservations/export");
+    private static final String UNMAPPED_ENDPOINT = "UNMAPPED";
+
+    private final QueryCounter queryCounter;
+    private final QueryStatistics queryStatistics;
+    private final boolean responseHeaders;
+
+    public QueryCountFilter(QueryCounter queryCounter, QueryStatistics queryStatistics, boolean responseHeaders) {
+        this.queryCounter = queryCounter;
+        this.queryStatistics = queryStatistics;
+        this.responseHeaders = responseHeaders;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!responseHeaders || STREAMING_PATHS.contains(request.getRequestURI())) {
+            QueryCount count = queryCounter.start();
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                queryCounter.stop(count);
+                queryStatistics.record(getEndpoint(request), count);
+            }
+            return;
+        }
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        QueryCount count = queryCounter.start();
+        try {
+            filterChain.doFilter(request, responseWrapper);
+        } finally {
+            queryCounter.stop(count);
+            queryStatistics.record(getEndpoint(request), count);
+        }
+        responseWrapper.setHeader(QUERY_COUNT_HEADER, String.valueOf(count.getStatementCount()));
+        responseWrapper.setHeader(
+                SERVER_TIMING_HEADER,
+                String.format(Locale.ROOT, "db;dur=%.3f", count.getElapsedMillis())
+        );
+        responseWrapper.copyBodyToResponse();
+    }
+
+    private String getEndpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return UNMAPPED_ENDPOINT;
+        }
+        return request.getMethod() + " " + pattern;
+    }
+}
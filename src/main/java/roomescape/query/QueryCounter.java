@@ -0,0 +1,41 @@
+package roomescape.query;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+public class QueryCounter {
+
+    private final ThreadLocal<Deque<QueryCount>> activeCounts = new ThreadLocal<>();
+
+    public QueryCount start() {
+        Deque<QueryCount> counts = activeCounts.get();
+        if (counts == null) {
+            counts = new ArrayDeque<>();
+            activeCounts.set(counts);
+        }
+        QueryCount count = new QueryCount();
+        counts.push(count);
+        return count;
+    }
+
+    public void stop(QueryCount count) {
+        Deque<QueryCount> counts = activeCounts.get();
+        if (counts == null) {
+            return;
+        }
+        counts.remove(count);
+        if (counts.isEmpty()) {
+            activeCounts.remove();
+        }
+    }
+
+    void record(long elapsedNanos) {
+        Deque<QueryCount> counts = activeCounts.get();
+        if (counts == null) {
+            return;
+        }
+        for (QueryCount count : counts) {
+            count.record(elapsedNanos);
+        }
+    }
+}
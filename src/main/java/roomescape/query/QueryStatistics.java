@@ -0,0 +1,49 @@
+package roomescape.query;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+public class QueryStatistics {
+
+    private final Map<String, EndpointQueryStatistics> endpoints = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public QueryStatistics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void record(String endpoint, QueryCount count) {
+        endpoints.computeIfAbsent(endpoint, this::register)
+                .record(count);
+    }
+
+    public List<EndpointQueryStatistics> findAll() {
+        return endpoints.values().stream()
+                .sorted(Comparator.comparing(EndpointQueryStatistics::getEndpoint))
+                .toList();
+    }
+
+    private EndpointQueryStatistics register(String endpoint) {
+        EndpointQueryStatistics statistics = new EndpointQueryStatistics(endpoint);
+        FunctionCounter.builder("roomescape.sql.requests", statistics, EndpointQueryStatistics::getRequestCount)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        FunctionCounter.builder("roomescape.sql.statements", statistics, EndpointQueryStatistics::getStatementCount)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        FunctionCounter.builder(
+                        "roomescape.sql.time",
+                        statistics,
+                        value -> (double) value.getElapsedNanos() / TimeUnit.SECONDS.toNanos(1)
+                )
+                .baseUnit("seconds")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        return statistics;
+    }
+}
@@ -0,0 +1,26 @@
+package roomescape.service;
+
+import java.util.List;
+import org.springframework.stereotype.Service;
+import roomescape.cache.CachedReservationTimeDao;
+import roomescape.cache.CachedThemeDao;
+import roomescape.dto.cache.CacheStatisticsResponse;
+
+@Service
+public class CacheStatisticsService {
+
+    private final CachedThemeDao cachedThemeDao;
+    private final CachedReservationTimeDao cachedReservationTimeDao;
+
+    public CacheStatisticsService(CachedThemeDao cachedThemeDao, CachedReservationTimeDao cachedReservationTimeDao) {
+        this.cachedThemeDao = cachedThemeDao;
+        this.cachedReservationTimeDao = cachedReservationTimeDao;
+    }
+
+    public List<CacheStatisticsResponse> findAll() {
+        return List.of(
+                CacheStatisticsResponse.from(cachedThemeDao.getStatistics()),
+                CacheStatisticsResponse.from(cachedReservationTimeDao.getStatistics())
+        );
+    }
+}
@@ -0,0 +1,22 @@
+package roomescape.service;
+
+import java.util.List;
+import org.springframework.stereotype.Service;
+import roomescape.dto.query.QueryStatisticsResponse;
+import roomescape.query.QueryStatistics;
+
+@Service
+public class QueryStatisticsService {
+
+    private final QueryStatistics queryStatistics;
+
+    public QueryStatisticsService(QueryStatistics queryStatistics) {
+        this.queryStatistics = queryStatistics;
+    }
+
+    public List<QueryStatisticsResponse> findAll() {
+        return queryStatistics.findAll().stream()
+                .map(QueryStatisticsResponse::from)
+                .toList();
+    }
+}
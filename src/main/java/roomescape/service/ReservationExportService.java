@@ -0,0 +1,141 @@
+package roomescape.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import roomescape.dao.ReservationDao;
+import roomescape.domain.reservation.ReservationExportFormat;
+import roomescape.dto.reservation.ReservationResponse;
+import roomescape.dto.reservationtime.ReservationTimeResponse;
+import roomescape.dto.theme.ThemeResponse;
+
+@Service
+public class ReservationExportService {
+
+    private static final int FLUSH_INTERVAL = 1000;
+    private static final String CSV_HEADER = "id,name,date,time_id,start_at,theme_id,theme_name";
+
+    private final ReservationDao reservationDao;
+    private final ObjectMapper objectMapper;
+    private final long timeoutNanos;
+
+    public ReservationExportService(ReservationDao reservationDao,
+                                    ObjectMapper objectMapper,
+                                    @Value("${reservation.export.timeout-seconds}") long timeoutSeconds) {
+        this.reservationDao = reservationDao;
+        this.objectMapper = objectMapper;
+        this.timeoutNanos = TimeUnit.SECONDS.toNanos(timeoutSeconds);
+    }
+
+    public void export(ReservationExportFormat format, OutputStream outputStream) throws IOException {
+        try {
+            if (format == ReservationExportFormat.CSV) {
+                exportCsv(outputStream);
+                return;
+            }
+            exportJson(format, outputStream);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void exportJson(ReservationExportFormat format, OutputStream outputStream) throws IOException {
+        boolean lineDelimited = format == ReservationExportFormat.NDJSON;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            if (lineDelimited) {
+                generator.setRootValueSeparator(null);
+            } else {
+                generator.writeStartArray();
+            }
+            RowCounter counter = new RowCounter(System.nanoTime() + timeoutNanos);
+            reservationDao.streamAll(reservation -> {
+                counter.validateDeadline();
+                try {
+                    generator.writeObject(ReservationResponse.from(reservation));
+                    if (lineDelimited) {
+                        generator.writeRaw('\n');
+                    }
+                    if (counter.increase() % FLUSH_INTERVAL == 1) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            if (!lineDelimited) {
+                generator.writeEndArray();
+            }
+        }
+    }
+
+    private void exportCsv(OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        RowCounter counter = new RowCounter(System.nanoTime() + timeoutNanos);
+        reservationDao.streamAll(reservation -> {
+            counter.validateDeadline();
+            try {
+                writer.write(toCsvRow(ReservationResponse.from(reservation)));
+                writer.write('\n');
+                if (counter.increase() % FLUSH_INTERVAL == 1) {
+                    writer.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    private String toCsvRow(ReservationResponse response) {
+        ReservationTimeResponse time = response.getTime();
+        ThemeResponse theme = response.getTheme();
+        return String.join(",",
+                String.valueOf(response.getId()),
+                escapeCsv(response.getName()),
+                response.getDate(),
+                String.valueOf(time.getId()),
+                time.getStartAt(),
+                String.valueOf(theme.getId()),
+                escapeCsv(theme.getName())
+        );
+    }
+
+    private String escapeCsv(String value) {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private static class RowCounter {
+
+        private final long deadlineNanos;
+        private long count;
+
+        RowCounter(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        long increase() {
+            return ++count;
+        }
+
+        void validateDeadline() {
+            if (System.nanoTime() - deadlineNanos > 0) {
+                throw new IllegalStateException("예약 내보내기 제한 시간을 초과했습니다.");
+            }
+        }
+    }
+}
@@ -1,68 +1,414 @@
 package roomescape.service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import roomescape.cache.ContentVersions;
+import roomescape.cache.ReservationWriteTracker;
+import roomescape.cache.SlotOccupancyIndex;
+import roomescape.cache.ThemeReservationCounter;
+import roomescape.commit.ReservationGroupCommitter;
 import roomescape.dao.ReservationDao;
 import roomescape.dao.ReservationTimeDao;
 import roomescape.dao.ThemeDao;
 import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.ReservationBatchMode;
 import roomescape.domain.reservation.ReservationDate;
+import roomescape.domain.reservation.ReservationPeriod;
+import roomescape.domain.reservation.ReservationSearchCondition;
+import roomescape.domain.reservation.ReservationSlot;
+import roomescape.domain.reservation.SlotOccupancy;
 import roomescape.domain.reservationtime.ReservationTime;
+import roomescape.domain.reservationtime.ReservationTimeCatalog;
+import roomescape.domain.reservationtime.ReservationTimeWindow;
 import roomescape.domain.theme.Theme;
 import roomescape.dto.reservation.AvailableReservationResponse;
+import roomescape.dto.reservation.AvailableThemeResponse;
+import roomescape.dto.reservation.AvailableThemeSearchRequest;
+import roomescape.dto.reservation.CompactReservationListResponse;
+import roomescape.dto.reservation.DailyAvailabilityResponse;
+import roomescape.dto.reservation.ReservationBatchCreateRequest;
+import roomescape.dto.reservation.ReservationBatchItemResponse;
+import roomescape.dto.reservation.ReservationBatchResponse;
+import roomescape.dto.reservation.ReservationCalendarRequest;
+import roomescape.dto.reservation.ReservationCalendarResponse;
 import roomescape.dto.reservation.ReservationCreateRequest;
 import roomescape.dto.reservation.ReservationResponse;
+import roomescape.dto.reservation.ReservationSearchRequest;
+import roomescape.event.SlotChangeBroadcaster;
+import roomescape.hold.SlotHoldRegistry;
+import roomescape.metrics.ReservationMetrics;
 
 @Service
 public class ReservationService {
 
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final String DUPLICATED_RESERVATION_MESSAGE = "중복된 예약을 생성할 수 없습니다.";
+    private static final String BATCH_ABORTED_MESSAGE = "다른 예약의 생성 실패로 생성하지 않았습니다.";
+    private static final String HELD_RESERVATION_MESSAGE = "다른 사용자가 예약 중인 시간입니다.";
+
     private final ReservationDao reservationDao;
     private final ReservationTimeDao reservationTimeDao;
     private final ThemeDao themeDao;
+    private final SlotOccupancyIndex slotOccupancyIndex;
+    private final ThemeReservationCounter themeReservationCounter;
+    private final ContentVersions contentVersions;
+    private final SlotChangeBroadcaster slotChangeBroadcaster;
+    private final ReservationMetrics reservationMetrics;
+    private final ReservationGroupCommitter reservationGroupCommitter;
+    private final SlotHoldRegistry slotHoldRegistry;
+    private final ReservationWriteTracker reservationWriteTracker;
 
-    public ReservationService(ReservationDao reservationDao, ReservationTimeDao reservationTimeDao, ThemeDao themeDao) {
+    public ReservationService(ReservationDao reservationDao,
+                              ReservationTimeDao reservationTimeDao,
+                              ThemeDao themeDao,
+                              SlotOccupancyIndex slotOccupancyIndex,
+                              ThemeReservationCounter themeReservationCounter,
+                              ContentVersions contentVersions,
+                              SlotChangeBroadcaster slotChangeBroadcaster,
+                              ReservationMetrics reservationMetrics,
+                              ReservationGroupCommitter reservationGroupCommitter,
+                              SlotHoldRegistry slotHoldRegistry,
+                              ReservationWriteTracker reservationWriteTracker) {
         this.reservationDao = reservationDao;
         this.reservationTimeDao = reservationTimeDao;
         this.themeDao = themeDao;
+        this.slotOccupancyIndex = slotOccupancyIndex;
+        this.themeReservationCounter = themeReservationCounter;
+        this.contentVersions = contentVersions;
+        this.slotChangeBroadcaster = slotChangeBroadcaster;
+        this.reservationMetrics = reservationMetrics;
+        this.reservationGroupCommitter = reservationGroupCommitter;
+        this.slotHoldRegistry = slotHoldRegistry;
+        this.reservationWriteTracker = reservationWriteTracker;
     }
 
-    public List<ReservationResponse> findAll() {
-        List<Reservation> reservations = reservationDao.readAll();
+    public List<ReservationResponse> findAll(ReservationSearchRequest request) {
+        List<Reservation> reservations = reservationDao.readAll(request.toDomain());
         return reservations.stream()
                 .map(ReservationResponse::from)
                 .toList();
     }
 
+    public CompactReservationListResponse findAllCompact(ReservationSearchRequest request) {
+        List<Reservation> reservations = reservationDao.readAll(request.toDomain());
+        return CompactReservationListResponse.from(reservations);
+    }
+
+    public Optional<ReservationResponse> findCreated(ReservationCreateRequest request) {
+        ReservationSearchCondition condition = ReservationSearchCondition.of(
+                null, 1, request.getDate(), request.getDate(), request.getThemeId(), request.getTimeId()
+        );
+        return reservationDao.readAll(condition).stream()
+                .filter(reservation -> reservation.getName().getValue().equals(request.getName()))
+                .findFirst()
+                .map(ReservationResponse::from);
+    }
+
     public List<AvailableReservationResponse> findTimeByDateAndThemeID(String date, Long themeId, LocalDateTime now) {
         ReservationDate reservationDate = ReservationDate.from(date);
+        validateThemeExist(themeId);
         List<ReservationTime> allTimes = reservationTimeDao.readAll();
         List<ReservationTime> filteredTimes = reservationDate.filterPastTime(allTimes, now);
-        List<ReservationTime> times = reservationDao.readTimesByDateAndThemeId(reservationDate, themeId);
+        SlotOccupancy occupancy = slotOccupancyIndex.find(reservationDate, themeId, now.toLocalDate());
         return filteredTimes.stream()
-                .map(filteredTime -> getAvailableReservationResponse(filteredTime, times))
+                .map(filteredTime -> AvailableReservationResponse.of(
+                        filteredTime,
+                        isUnavailable(reservationDate.getValue(), themeId, filteredTime, occupancy, now)
+                ))
                 .toList();
     }
 
+    public List<AvailableThemeResponse> findAvailableThemes(AvailableThemeSearchRequest request, LocalDateTime now) {
+        ReservationDate reservationDate = request.toDate();
+        ReservationTimeWindow timeWindow = request.toTimeWindow();
+        if (reservationDate.isBefore(now)) {
+            return List.of();
+        }
+        List<ReservationTime> candidateTimes = reservationDate.filterPastTime(reservationTimeDao.readAll(), now)
+                .stream()
+                .filter(timeWindow::contains)
+                .toList();
+        if (candidateTimes.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<Long>> bookedTimeIds = reservationDao.readBookedTimeIdsByDate(reservationDate);
+        List<AvailableThemeResponse> responses = new ArrayList<>();
+        ReservationTimeCatalog timeCatalog = reservationTimeDao.readCatalog();
+        for (Theme theme : themeDao.readAll()) {
+            SlotOccupancy occupancy = SlotOccupancy.of(
+                    timeCatalog,
+                    bookedTimeIds.getOrDefault(theme.getId(), List.of())
+            );
+            List<ReservationTime> availableTimes = candidateTimes.stream()
+                    .filter(time -> !isUnavailable(reservationDate.getValue(), theme.getId(), time, occupancy, now))
+                    .toList();
+            if (!availableTimes.isEmpty()) {
+                responses.add(AvailableThemeResponse.of(theme, availableTimes));
+            }
+        }
+        return responses;
+    }
+
+    public ReservationCalendarResponse findCalendar(ReservationCalendarRequest request, LocalDateTime now) {
+        ReservationPeriod period = request.toPeriod();
+        Long themeId = request.getThemeId();
+        validateThemeExist(themeId);
+        ReservationTimeCatalog timeCatalog = reservationTimeDao.readCatalog();
+        List<ReservationTime> allTimes = timeCatalog.findAll();
+        Map<LocalDate, List<Long>> bookedTimeIds = reservationDao.readBookedTimeIdsByThemeId(themeId, period);
+        List<DailyAvailabilityResponse> days = period.getDates().stream()
+                .map(date -> {
+                    SlotOccupancy occupancy = SlotOccupancy.of(
+                            timeCatalog,
+                            bookedTimeIds.getOrDefault(date, List.of())
+                    );
+                    return DailyAvailabilityResponse.of(
+                            date,
+                            findAvailabilities(date, themeId, allTimes, occupancy, now)
+                    );
+                })
+                .toList();
+        return ReservationCalendarResponse.of(themeId, allTimes, days);
+    }
+
+    private List<Boolean> findAvailabilities(LocalDate date,
+                                             Long themeId,
+                                             List<ReservationTime> allTimes,
+                                             SlotOccupancy occupancy,
+                                             LocalDateTime now) {
+        return allTimes.stream()
+                .map(time -> !isPast(date, time, now) && !isUnavailable(date, themeId, time, occupancy, now))
+                .toList();
+    }
+
+    private boolean isUnavailable(LocalDate date,
+                                  Long themeId,
+                                  ReservationTime time,
+                                  SlotOccupancy occupancy,
+                                  LocalDateTime now) {
+        return occupancy.isBooked(time)
+               || slotHoldRegistry.isHeld(new ReservationSlot(date, themeId, time.getId()), now);
+    }
+
+    private boolean isPast(LocalDate date, ReservationTime time, LocalDateTime now) {
+        LocalDate today = now.toLocalDate();
+        return date.isBefore(today) || (date.isEqual(today) && time.isBefore(now));
+    }
+
+    public SseEmitter subscribeSlotChanges(String date, Long themeId) {
+        ReservationDate reservationDate = ReservationDate.from(date);
+        validateThemeExist(themeId);
+        return slotChangeBroadcaster.subscribe(reservationDate.getValue(), themeId);
+    }
+
     public ReservationResponse add(ReservationCreateRequest request, LocalDateTime now) {
         ReservationTime reservationTime = findReservationTimeBy(request);
         Theme theme = findThemeBy(request);
         Reservation reservation = request.toDomain(reservationTime, theme);
-        reservation.validatePast(reservationTime, now);
-        validateDuplicate(reservation);
-        return ReservationResponse.from(reservationDao.create(reservation));
+        validatePast(reservation, reservationTime, now);
+        ReservationSlot slot = ReservationSlot.from(reservation);
+        validateNotHeld(slot, request.getHoldToken(), now);
+        Reservation result = reservationWriteTracker.call(() -> {
+            Reservation created = commitReservation(reservation);
+            slotHoldRegistry.release(slot, request.getHoldToken());
+            applyCreated(created);
+            return created;
+        });
+        return ReservationResponse.from(result);
+    }
+
+    public ReservationBatchResponse addAll(ReservationBatchCreateRequest request, LocalDateTime now) {
+        ReservationBatchMode mode = request.toMode();
+        List<ReservationCreateRequest> requests = request.getReservations();
+        validateBatchSize(requests);
+        Map<Long, ReservationTime> times = reservationTimeDao.readAll().stream()
+                .collect(Collectors.toMap(ReservationTime::getId, Function.identity()));
+        Map<Long, Theme> themes = themeDao.readAll().stream()
+                .collect(Collectors.toMap(Theme::getId, Function.identity()));
+        Reservation[] candidates = new Reservation[requests.size()];
+        String[] failures = new String[requests.size()];
+        for (int i = 0; i < requests.size(); i++) {
+            try {
+                candidates[i] = toReservation(requests.get(i), times, themes, now);
+            } catch (IllegalArgumentException e) {
+                failures[i] = e.getMessage();
+            }
+        }
+        markDuplicates(candidates, failures);
+        if (mode.isAllOrNothing() && Arrays.stream(failures).anyMatch(Objects::nonNull)) {
+            return ReservationBatchResponse.of(mode, toAbortedResults(failures));
+        }
+        List<ReservationBatchItemResponse> results = reservationWriteTracker.call(() -> {
+            Reservation[] created = createAll(mode, candidates, failures);
+            List<ReservationBatchItemResponse> items = new ArrayList<>(requests.size());
+            for (int i = 0; i < requests.size(); i++) {
+                if (created[i] == null) {
+                    items.add(ReservationBatchItemResponse.failed(i, failures[i]));
+                    continue;
+                }
+                slotHoldRegistry.release(ReservationSlot.from(created[i]), requests.get(i).getHoldToken());
+                applyCreated(created[i]);
+                items.add(ReservationBatchItemResponse.created(i, created[i]));
+            }
+            return items;
+        });
+        return ReservationBatchResponse.of(mode, results);
+    }
+
+    private void validateBatchSize(List<ReservationCreateRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("일괄 생성할 예약이 비어있을 수 없습니다.");
+        }
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 생성할 수 있는 예약은 최대 " + MAX_BATCH_SIZE + "개입니다.");
+        }
+    }
+
+    private Reservation toReservation(ReservationCreateRequest request,
+                                      Map<Long, ReservationTime> times,
+                                      Map<Long, Theme> themes,
+                                      LocalDateTime now) {
+        ReservationTime reservationTime = times.get(request.getTimeId());
+        if (reservationTime == null) {
+            throw new IllegalArgumentException("예약 시간 아이디에 해당하는 예약 시간이 존재하지 않습니다.");
+        }
+        Theme theme = themes.get(request.getThemeId());
+        if (theme == null) {
+            throw new IllegalArgumentException("테마 아이디에 해당하는 테마가 존재하지 않습니다.");
+        }
+        Reservation reservation = request.toDomain(reservationTime, theme);
+        validatePast(reservation, reservationTime, now);
+        validateNotHeld(ReservationSlot.from(reservation), request.getHoldToken(), now);
+        return reservation;
+    }
+
+    private void validatePast(Reservation reservation, ReservationTime reservationTime, LocalDateTime now) {
+        try {
+            reservation.validatePast(reservationTime, now);
+        } catch (IllegalArgumentException e) {
+            reservationMetrics.recordPast();
+            throw e;
+        }
+    }
+
+    private void validateNotHeld(ReservationSlot slot, String holdToken, LocalDateTime now) {
+        if (slotHoldRegistry.isHeldByOther(slot, holdToken, now)) {
+            throw new IllegalArgumentException(HELD_RESERVATION_MESSAGE);
+        }
+    }
+
+    private void markDuplicates(Reservation[] candidates, String[] failures) {
+        List<Reservation> valid = Arrays.stream(candidates)
+                .filter(Objects::nonNull)
+                .toList();
+        Set<LocalDate> dates = valid.stream()
+                .map(reservation -> reservation.getDate().getValue())
+                .collect(Collectors.toSet());
+        Set<Long> themeIds = valid.stream()
+                .map(reservation -> reservation.getTheme().getId())
+                .collect(Collectors.toSet());
+        Set<ReservationSlot> bookedSlots = new HashSet<>(reservationDao.readSlots(dates, themeIds));
+        for (int i = 0; i < candidates.length; i++) {
+            if (candidates[i] != null && !bookedSlots.add(ReservationSlot.from(candidates[i]))) {
+                candidates[i] = null;
+                failures[i] = DUPLICATED_RESERVATION_MESSAGE;
+                reservationMetrics.recordDuplicated();
+            }
+        }
+    }
+
+    private List<ReservationBatchItemResponse> toAbortedResults(String[] failures) {
+        List<ReservationBatchItemResponse> results = new ArrayList<>(failures.length);
+        for (int i = 0; i < failures.length; i++) {
+            String message = Objects.requireNonNullElse(failures[i], BATCH_ABORTED_MESSAGE);
+            results.add(ReservationBatchItemResponse.failed(i, message));
+        }
+        return results;
+    }
+
+    private Reservation[] createAll(ReservationBatchMode mode, Reservation[] candidates, String[] failures) {
+        List<Integer> indexes = IntStream.range(0, candidates.length)
+                .filter(i -> candidates[i] != null)
+                .boxed()
+                .toList();
+        List<Reservation> reservations = indexes.stream()
+                .map(i -> candidates[i])
+                .toList();
+        Reservation[] created = new Reservation[candidates.length];
+        if (reservations.isEmpty()) {
+            return created;
+        }
+        try {
+            List<Reservation> results = reservationDao.createAll(reservations);
+            for (int i = 0; i < indexes.size(); i++) {
+                created[indexes.get(i)] = results.get(i);
+            }
+        } catch (DuplicateKeyException e) {
+            if (mode.isAllOrNothing()) {
+                reservationMetrics.recordDuplicated();
+                throw new IllegalArgumentException(DUPLICATED_RESERVATION_MESSAGE);
+            }
+            for (int index : indexes) {
+                try {
+                    created[index] = createReservation(candidates[index]);
+                } catch (IllegalArgumentException duplicated) {
+                    failures[index] = duplicated.getMessage();
+                }
+            }
+        }
+        return created;
+    }
+
+    private void applyCreated(Reservation reservation) {
+        reservationMetrics.recordCreated();
+        slotOccupancyIndex.book(reservation);
+        themeReservationCounter.increase(reservation);
+        slotChangeBroadcaster.publish(reservation, true);
     }
 
     public void delete(Long id) {
         validateNull(id);
-        Reservation reservation = findReservationBy(id);
-        reservationDao.delete(reservation);
+        ReservationSlot slot = reservationWriteTracker.call(() -> {
+            ReservationSlot deleted = reservationDao.deleteById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("해당 아이디를 가진 예약이 존재하지 않습니다."));
+            slotOccupancyIndex.cancel(deleted);
+            themeReservationCounter.decrease(deleted);
+            return deleted;
+        });
+        contentVersions.increaseReservationVersion();
+        reservationTimeDao.readById(slot.getTimeId())
+                .ifPresent(time -> slotChangeBroadcaster.publish(slot, time, false));
+    }
+
+    private Reservation createReservation(Reservation reservation) {
+        try {
+            return reservationDao.create(reservation);
+        } catch (DuplicateKeyException e) {
+            reservationMetrics.recordDuplicated();
+            throw new IllegalArgumentException(DUPLICATED_RESERVATION_MESSAGE);
+        }
     }
 
-    private void validateDuplicate(Reservation reservation) {
-        if (reservationDao.hasSame(reservation)) {
-            throw new IllegalArgumentException("중복된 예약을 생성할 수 없습니다.");
+    private Reservation commitReservation(Reservation reservation) {
+        try {
+            return reservationGroupCommitter.create(reservation);
+        } catch (DuplicateKeyException e) {
+            reservationMetrics.recordDuplicated();
+            throw new IllegalArgumentException(DUPLICATED_RESERVATION_MESSAGE);
         }
     }
 
@@ -72,17 +418,10 @@ public class ReservationService {
         }
     }
 
-    private AvailableReservationResponse getAvailableReservationResponse(ReservationTime filteredTime,
-                                                                         List<ReservationTime> times) {
-        return AvailableReservationResponse.of(
-                filteredTime,
-                times.stream().anyMatch(time -> Objects.equals(time.getId(), filteredTime.getId()))
-        );
-    }
-
-    private Reservation findReservationBy(Long id) {
-        return reservationDao.readById(id)
-                .orElseThrow(() -> new IllegalArgumentException("해당 아이디를 가진 예약이 존재하지 않습니다."));
+    private void validateThemeExist(Long themeId) {
+        if (themeId == null || !themeDao.exist(themeId)) {
+            throw new IllegalArgumentException("테마 아이디에 해당하는 테마가 존재하지 않습니다.");
+        }
     }
 
     private ReservationTime findReservationTimeBy(ReservationCreateRequest request) {
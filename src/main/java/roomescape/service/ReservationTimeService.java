@@ -1,22 +1,34 @@
 package roomescape.service;
 
+import java.time.LocalTime;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
-import roomescape.dao.ReservationDao;
+import roomescape.cache.ContentVersions;
 import roomescape.dao.ReservationTimeDao;
+import roomescape.domain.reservationtime.ReservationStartAt;
 import roomescape.domain.reservationtime.ReservationTime;
+import roomescape.dto.reservationtime.ReservationTimeBulkCreateRequest;
 import roomescape.dto.reservationtime.ReservationTimeCreateRequest;
 import roomescape.dto.reservationtime.ReservationTimeResponse;
 
 @Service
 public class ReservationTimeService {
 
+    private static final String DUPLICATED_START_AT_MESSAGE = "동일한 예약 시간이 존재합니다.";
+
     private final ReservationTimeDao reservationTimeDao;
-    private final ReservationDao reservationDao;
+    private final ContentVersions contentVersions;
 
-    public ReservationTimeService(ReservationTimeDao reservationTimeDao, ReservationDao reservationDao) {
+    public ReservationTimeService(ReservationTimeDao reservationTimeDao, ContentVersions contentVersions) {
         this.reservationTimeDao = reservationTimeDao;
-        this.reservationDao = reservationDao;
+        this.contentVersions = contentVersions;
+    }
+
+    public String getVersionTag() {
+        return contentVersions.getReservationTimeTag();
     }
 
     public List<ReservationTimeResponse> findAll() {
@@ -29,21 +41,59 @@ public class ReservationTimeService {
     public ReservationTimeResponse add(ReservationTimeCreateRequest request) {
         ReservationTime reservationTime = request.toDomain();
         validateDuplicateStartAt(reservationTime);
-        ReservationTime result = reservationTimeDao.create(reservationTime);
+        ReservationTime result = create(reservationTime);
+        contentVersions.increaseReservationTimeVersion();
         return ReservationTimeResponse.from(result);
     }
 
+    public List<ReservationTimeResponse> addAll(ReservationTimeBulkCreateRequest request) {
+        List<ReservationStartAt> startAts = request.toDomain().toStartAts();
+        Set<LocalTime> existingStartAts = reservationTimeDao.readAll().stream()
+                .map(time -> time.getStartAt().getValue())
+                .collect(Collectors.toSet());
+        List<ReservationTime> newTimes = startAts.stream()
+                .filter(startAt -> !existingStartAts.contains(startAt.getValue()))
+                .map(startAt -> new ReservationTime(null, startAt))
+                .toList();
+        if (newTimes.isEmpty()) {
+            return List.of();
+        }
+        List<ReservationTime> results = createAll(newTimes);
+        contentVersions.increaseReservationTimeVersion();
+        return results.stream()
+                .map(ReservationTimeResponse::from)
+                .toList();
+    }
+
+    private ReservationTime create(ReservationTime reservationTime) {
+        try {
+            return reservationTimeDao.create(reservationTime);
+        } catch (DuplicateKeyException e) {
+            throw new IllegalArgumentException(DUPLICATED_START_AT_MESSAGE);
+        }
+    }
+
+    private List<ReservationTime> createAll(List<ReservationTime> reservationTimes) {
+        try {
+            return reservationTimeDao.createAll(reservationTimes);
+        } catch (DuplicateKeyException e) {
+            throw new IllegalArgumentException(DUPLICATED_START_AT_MESSAGE);
+        }
+    }
+
     private void validateDuplicateStartAt(ReservationTime reservationTime) {
         if (reservationTimeDao.exist(reservationTime)) {
-            throw new IllegalArgumentException("동일한 예약 시간이 존재합니다.");
+            throw new IllegalArgumentException(DUPLICATED_START_AT_MESSAGE);
         }
     }
 
     public void delete(Long id) {
         validateNull(id);
-        validateNotExist(id);
-        validateExistReservationByTimeId(id);
-        reservationTimeDao.delete(id);
+        if (reservationTimeDao.deleteIfNotReferenced(id) == 0) {
+            validateNotExist(id);
+            throw new IllegalArgumentException("해당 예약시간을 사용하는 예약이 존재합니다.");
+        }
+        contentVersions.increaseReservationTimeVersion();
     }
 
     private void validateNull(Long id) {
@@ -57,10 +107,4 @@ public class ReservationTimeService {
             throw new IllegalArgumentException("해당 아이디를 가진 예약 시간이 존재하지 않습니다.");
         }
     }
-
-    private void validateExistReservationByTimeId(Long id) {
-        if (reservationDao.existByTimeId(id)) {
-            throw new IllegalArgumentException("해당 예약시간을 사용하는 예약이 존재합니다.");
-        }
-    }
 }
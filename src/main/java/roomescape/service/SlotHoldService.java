@@ -0,0 +1,78 @@
+package roomescape.service;
+
+import java.time.LocalDateTime;
+import org.springframework.stereotype.Service;
+import roomescape.cache.SlotOccupancyIndex;
+import roomescape.dao.ReservationTimeDao;
+import roomescape.dao.ThemeDao;
+import roomescape.domain.reservation.ReservationDate;
+import roomescape.domain.reservation.ReservationSlot;
+import roomescape.domain.reservation.SlotHold;
+import roomescape.domain.reservationtime.ReservationTime;
+import roomescape.dto.reservation.SlotHoldCreateRequest;
+import roomescape.dto.reservation.SlotHoldResponse;
+import roomescape.hold.SlotHoldRegistry;
+
+@Service
+public class SlotHoldService {
+
+    private final ReservationTimeDao reservationTimeDao;
+    private final ThemeDao themeDao;
+    private final SlotOccupancyIndex slotOccupancyIndex;
+    private final SlotHoldRegistry slotHoldRegistry;
+
+    public SlotHoldService(ReservationTimeDao reservationTimeDao,
+                           ThemeDao themeDao,
+                           SlotOccupancyIndex slotOccupancyIndex,
+                           SlotHoldRegistry slotHoldRegistry) {
+        this.reservationTimeDao = reservationTimeDao;
+        this.themeDao = themeDao;
+        this.slotOccupancyIndex = slotOccupancyIndex;
+        this.slotHoldRegistry = slotHoldRegistry;
+    }
+
+    public SlotHoldResponse hold(SlotHoldCreateRequest request, LocalDateTime now) {
+        ReservationDate reservationDate = request.toDate();
+        ReservationTime reservationTime = findReservationTimeBy(request);
+        validateThemeExist(request.getThemeId());
+        validatePast(reservationDate, reservationTime, now);
+        if (slotOccupancyIndex.find(reservationDate, request.getThemeId(), now.toLocalDate())
+                .isBooked(reservationTime)) {
+            throw new IllegalArgumentException("이미 예약된 시간입니다.");
+        }
+        ReservationSlot slot = new ReservationSlot(
+                reservationDate.getValue(),
+                request.getThemeId(),
+                reservationTime.getId()
+        );
+        SlotHold hold = slotHoldRegistry.hold(slot, now)
+                .orElseThrow(() -> new IllegalArgumentException("다른 사용자가 예약 중인 시간입니다."));
+        return SlotHoldResponse.from(hold);
+    }
+
+    public void release(String token) {
+        SlotHold hold = slotHoldRegistry.findByToken(token)
+                .orElseThrow(() -> new IllegalArgumentException("해당 토큰을 가진 예약 선점이 존재하지 않습니다."));
+        slotHoldRegistry.release(hold);
+    }
+
+    private void validatePast(ReservationDate reservationDate, ReservationTime reservationTime, LocalDateTime now) {
+        if (reservationDate.isBefore(now) || reservationDate.isSame(now) && reservationTime.isBefore(now)) {
+            throw new IllegalArgumentException("예약 일과 예약 시간은 과거일 수 없습니다.");
+        }
+    }
+
+    private void validateThemeExist(Long themeId) {
+        if (themeId == null || !themeDao.exist(themeId)) {
+            throw new IllegalArgumentException("테마 아이디에 해당하는 테마가 존재하지 않습니다.");
+        }
+    }
+
+    private ReservationTime findReservationTimeBy(SlotHoldCreateRequest request) {
+        if (request.getTimeId() == null) {
+            throw new IllegalArgumentException("예약 시간 아이디에 해당하는 예약 시간이 존재하지 않습니다.");
+        }
+        return reservationTimeDao.readById(request.getTimeId())
+                .orElseThrow(() -> new IllegalArgumentException("예약 시간 아이디에 해당하는 예약 시간이 존재하지 않습니다."));
+    }
+}
@@ -2,8 +2,13 @@ package roomescape.service;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
-import roomescape.dao.ReservationDao;
+import roomescape.cache.ContentVersions;
+import roomescape.cache.ThemeReservationCounter;
 import roomescape.dao.ThemeDao;
 import roomescape.domain.theme.Theme;
 import roomescape.dto.theme.ThemeCreateRequest;
@@ -12,12 +17,27 @@ import roomescape.dto.theme.ThemeResponse;
 @Service
 public class ThemeService {
 
+    private static final int POPULAR_THEME_COUNT = 10;
+    private static final String DUPLICATED_THEME_NAME_MESSAGE = "동일한 테마명이 존재합니다.";
+
     private final ThemeDao themeDao;
-    private final ReservationDao reservationDao;
+    private final ThemeReservationCounter themeReservationCounter;
+    private final ContentVersions contentVersions;
 
-    public ThemeService(ThemeDao themeDao, ReservationDao reservationDao) {
+    public ThemeService(ThemeDao themeDao,
+                        ThemeReservationCounter themeReservationCounter,
+                        ContentVersions contentVersions) {
         this.themeDao = themeDao;
-        this.reservationDao = reservationDao;
+        this.themeReservationCounter = themeReservationCounter;
+        this.contentVersions = contentVersions;
+    }
+
+    public String getVersionTag() {
+        return contentVersions.getThemeTag();
+    }
+
+    public String getPopularVersionTag(LocalDate today) {
+        return contentVersions.getPopularThemeTag(today);
     }
 
     public List<ThemeResponse> findAll() {
@@ -27,8 +47,13 @@ public class ThemeService {
     }
 
     public List<ThemeResponse> findPopulars(LocalDate startDate, LocalDate endDate) {
-        List<Theme> themes = reservationDao.readPopularThemes(startDate, endDate);
-        return themes.stream()
+        List<Long> popularThemeIds =
+                themeReservationCounter.findPopularThemeIds(startDate, endDate, POPULAR_THEME_COUNT);
+        Map<Long, Theme> themes = themeDao.readAll().stream()
+                .collect(Collectors.toMap(Theme::getId, Function.identity()));
+        return popularThemeIds.stream()
+                .filter(themes::containsKey)
+                .map(themes::get)
                 .map(ThemeResponse::from)
                 .toList();
     }
@@ -36,15 +61,26 @@ public class ThemeService {
     public ThemeResponse add(ThemeCreateRequest request) {
         validateExistedThemeName(request.getName());
         Theme theme = request.toDomain();
-        Theme result = themeDao.create(theme);
+        Theme result = createTheme(theme);
+        contentVersions.increaseThemeVersion();
         return ThemeResponse.from(result);
     }
 
+    private Theme createTheme(Theme theme) {
+        try {
+            return themeDao.create(theme);
+        } catch (DuplicateKeyException e) {
+            throw new IllegalArgumentException(DUPLICATED_THEME_NAME_MESSAGE);
+        }
+    }
+
     public void delete(Long id) {
         validateNull(id);
-        validateNotExistTheme(id);
-        validateExistReservationByThemeId(id);
-        themeDao.delete(id);
+        if (themeDao.deleteIfNotReferenced(id) == 0) {
+            validateNotExistTheme(id);
+            throw new IllegalArgumentException("해당 테마를 사용하는 예약이 존재합니다.");
+        }
+        contentVersions.increaseThemeVersion();
     }
 
     private void validateNull(Long id) {
@@ -61,13 +97,7 @@ public class ThemeService {
 
     private void validateExistedThemeName(String name) {
         if (themeDao.exist(name)) {
-            throw new IllegalArgumentException("동일한 테마명이 존재합니다.");
-        }
-    }
-
-    private void validateExistReservationByThemeId(Long id) {
-        if (reservationDao.existByThemeId(id)) {
-            throw new IllegalArgumentException("해당 테마를 사용하는 예약이 존재합니다.");
+            throw new IllegalArgumentException(DUPLICATED_THEME_NAME_MESSAGE);
         }
     }
 }
@@ -4,14 +4,16 @@ CREATE TABLE theme
     name        VARCHAR(255) NOT NULL,
     description VARCHAR(255) NOT NULL,
     thumbnail   VARCHAR(255) NOT NULL,
-    PRIMARY KEY (id)
+    PRIMARY KEY (id),
+    CONSTRAINT theme_name_unique UNIQUE (name)
 );
 
 CREATE TABLE reservation_time
 (
     id       BIGINT NOT NULL AUTO_INCREMENT,
     start_at TIME   NOT NULL,
-    PRIMARY KEY (id)
+    PRIMARY KEY (id),
+    CONSTRAINT reservation_time_start_at_unique UNIQUE (start_at)
 );
 
 CREATE TABLE reservation
@@ -22,6 +24,10 @@ CREATE TABLE reservation
     time_id  BIGINT       NOT NULL,
     theme_id BIGINT       NOT NULL,
     PRIMARY KEY (id),
+    CONSTRAINT reservation_slot_unique UNIQUE (date, theme_id, time_id),
     FOREIGN KEY (time_id) REFERENCES reservation_time (id),
     FOREIGN KEY (theme_id) REFERENCES theme (id)
 );
+
+CREATE INDEX reservation_theme_id_date_index ON reservation (theme_id, date);
+CREATE INDEX reservation_time_id_index ON reservation (time_id);
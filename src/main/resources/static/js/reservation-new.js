@@ -2,23 +2,41 @@ let isEditing = false;
 const RESERVATION_API_ENDPOINT = '/reservations';
 const TIME_API_ENDPOINT = '/times';
 const THEME_API_ENDPOINT = '/themes';
+const RESERVATION_PAGE_SIZE = 100;
 const timesOptions = [];
 const themesOptions = [];
 
 document.addEventListener('DOMContentLoaded', () => {
   document.getElementById('add-button').addEventListener('click', addInputRow);
 
-  requestRead(RESERVATION_API_ENDPOINT)
-      .then(render)
-      .catch(error => console.error('Error fetching reservations:', error));
-
+  fetchReservations(0);
   fetchTimes();
   fetchThemes();
 });
 
-function render(data) {
+function fetchReservations(lastId) {
+  requestRead(`${RESERVATION_API_ENDPOINT}?lastId=${lastId}&size=${RESERVATION_PAGE_SIZE}`)
+      .then(data => {
+        render(data, lastId === 0);
+        renderMoreButton(data);
+      })
+      .catch(error => console.error('Error fetching reservations:', error));
+}
+
+function renderMoreButton(data) {
+  const existing = document.getElementById('more-button');
+  if (existing) existing.remove();
+  if (data.length < RESERVATION_PAGE_SIZE) return;
+
+  const lastId = data[data.length - 1].id;
+  const button = createActionButton('더보기', 'btn-secondary', () => fetchReservations(lastId));
+  button.id = 'more-button';
+  document.querySelector('.table-container').appendChild(button);
+}
+
+function render(data, clear = true) {
   const tableBody = document.getElementById('table-body');
-  tableBody.innerHTML = '';
+  if (clear) tableBody.innerHTML = '';
 
   data.forEach(item => {
     const row = tableBody.insertRow();
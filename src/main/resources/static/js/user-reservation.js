@@ -78,21 +78,58 @@ function checkDateAndTheme() {
   if (selectedDate && selectedThemeElement) {
     const selectedThemeId = selectedThemeElement.getAttribute('data-theme-id');
     fetchAvailableTimes(selectedDate, selectedThemeId);
+    subscribeSlotChanges(selectedDate, selectedThemeId);
   }
 }
 
+let slotEventSource = null;
+
+function subscribeSlotChanges(date, themeId) {
+  if (slotEventSource) slotEventSource.close();
+  const requrl = new URLSearchParams({date, themeId});
+  slotEventSource = new EventSource(`/reservations/slot-events?${requrl}`); // 예약 변경 이벤트 구독 API endpoint
+  slotEventSource.addEventListener('slot', event => {
+    const change = JSON.parse(event.data);
+    calendars.delete(`${change.themeId}:${change.date.substring(0, 7)}`);
+    const slot = document.querySelector(`.time-slot[data-time-id="${change.timeId}"]`);
+    if (!slot) return;
+    slot.setAttribute('data-time-booked', change.alreadyBooked);
+    slot.classList.toggle('disabled', change.alreadyBooked);
+    if (change.alreadyBooked) slot.classList.remove('active');
+    checkDateAndThemeAndTime();
+  });
+}
+
 function fetchAvailableTimes(date, themeId) {
-  const requrl = new URLSearchParams({date, themeId})
-  fetch(`/reservations/available-times?${requrl}`, { // 예약 가능 시간 조회 API endpoint
-    method: 'GET',
-    headers: {
-      'Content-Type': 'application/json',
-    },
-  }).then(response => {
-    if (response.status === 200) return response.json();
-    throw new Error('Read failed');
-  }).then(renderAvailableTimes)
-  .catch(error => console.error("Error fetching available times:", error));
+  fetchCalendar(themeId, date.substring(0, 7))
+      .then(calendar => toAvailableTimes(calendar, date))
+      .then(renderAvailableTimes)
+      .catch(error => console.error("Error fetching available times:", error));
+}
+
+const calendars = new Map();
+
+function fetchCalendar(themeId, month) {
+  const key = `${themeId}:${month}`;
+  if (!calendars.has(key)) {
+    const requrl = new URLSearchParams({themeId, month});
+    calendars.set(key, requestRead(`/reservations/calendar?${requrl}`) // 월간 예약 가능 현황 조회 API endpoint
+        .catch(error => {
+          calendars.delete(key);
+          throw error;
+        }));
+  }
+  return calendars.get(key);
+}
+
+function toAvailableTimes(calendar, date) {
+  const day = calendar.days.find(day => day.date === date);
+  if (!day) return [];
+  return calendar.times.map((time, index) => ({
+    startAt: time.startAt,
+    timeId: time.id,
+    alreadyBooked: day.slots[index] === '0'
+  }));
 }
 
 function renderAvailableTimes(times) {
@@ -0,0 +1,98 @@
+package roomescape.commit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import roomescape.domain.reservation.Reservation;
+import roomescape.fixture.ReservationFixtures;
+import roomescape.fixture.ReservationTimeFixtures;
+import roomescape.fixture.ThemeFixtures;
+
+class PendingReservationTest {
+
+    private static final long TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private Reservation reservation;
+
+    @BeforeEach
+    void setUp() {
+        reservation = ReservationFixtures.createReservation(
+                ReservationTimeFixtures.createReservationTime("12:00"),
+                ThemeFixtures.createDefaultTheme()
+        );
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 저장되지 않으면 대기를 포기하고 이후 저장되지 않는다.")
+    void awaitTimeout() {
+        //given
+        PendingReservation pending = new PendingReservation(reservation);
+
+        //when & then
+        assertAll(
+                () -> assertThatThrownBy(() -> pending.await(TIMEOUT_NANOS))
+                        .isInstanceOf(ReservationCommitException.class),
+                () -> assertThat(pending.claim()).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("저장이 시작된 예약은 제한 시간이 지나도 저장 결과가 나올 때까지 기다린다.")
+    void awaitClaimedReservation() {
+        //given
+        PendingReservation pending = new PendingReservation(reservation);
+        pending.claim();
+        CompletableFuture<Reservation> waiting = new CompletableFuture<>();
+        Thread caller = new Thread(() -> completeWith(waiting, () -> pending.await(1)));
+        caller.start();
+        awaitState(caller, Thread.State.WAITING);
+
+        //when
+        pending.complete(reservation);
+
+        //then
+        assertThat(waiting.join()).isSameAs(reservation);
+    }
+
+    @Test
+    @DisplayName("저장이 시작된 예약이 실패하면 제한 시간과 관계없이 실패 원인을 전달한다.")
+    void awaitClaimedReservationFailure() {
+        //given
+        PendingReservation pending = new PendingReservation(reservation);
+        pending.claim();
+        CompletableFuture<Reservation> waiting = new CompletableFuture<>();
+        Thread caller = new Thread(() -> completeWith(waiting, () -> pending.await(1)));
+        caller.start();
+        awaitState(caller, Thread.State.WAITING);
+
+        //when
+        pending.fail(new DuplicateKeyException("중복"));
+
+        //then
+        assertThatThrownBy(waiting::join)
+                .hasCauseInstanceOf(DuplicateKeyException.class);
+    }
+
+    private void completeWith(CompletableFuture<Reservation> waiting, Supplier<Reservation> action) {
+        try {
+            waiting.complete(action.get());
+        } catch (RuntimeException e) {
+            waiting.completeExceptionally(e);
+        }
+    }
+
+    private void awaitState(Thread thread, Thread.State state) {
+        while (thread.getState() != state) {
+            assertThat(thread.isAlive()).isTrue();
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package roomescape.commit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+import roomescape.cache.CachedReservationTimeDao;
+import roomescape.cache.CachedThemeDao;
+import roomescape.cache.SlotOccupancyIndex;
+import roomescape.dao.JdbcReservationTimeDao;
+import roomescape.dao.JdbcThemeDao;
+import roomescape.dto.reservation.ReservationCreateRequest;
+import roomescape.dto.reservation.ReservationResponse;
+import roomescape.dto.reservation.ReservationSearchRequest;
+import roomescape.fixture.ReservationTimeFixtures;
+import roomescape.fixture.ThemeFixtures;
+import roomescape.hold.SlotHoldRegistry;
+import roomescape.service.ReservationService;
+
+@SpringBootTest(
+        webEnvironment = WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.datasource.url=jdbc:h2:mem:group-commit",
+                "reservation.group-commit.enabled=true",
+                "reservation.group-commit.max-delay-millis=50"
+        }
+)
+@Sql(value = "classpath:test_db_clean.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+class ReservationGroupCommitterTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 2, 12, 2);
+    private static final int CLIENT_COUNT = 10;
+
+    @Autowired
+    private ReservationService reservationService;
+    @Autowired
+    private JdbcReservationTimeDao reservationTimeDao;
+    @Autowired
+    private JdbcThemeDao themeDao;
+    @Autowired
+    private SlotOccupancyIndex slotOccupancyIndex;
+    @Autowired
+    private SlotHoldRegistry slotHoldRegistry;
+    @Autowired
+    private CachedThemeDao cachedThemeDao;
+    @Autowired
+    private CachedReservationTimeDao cachedReservationTimeDao;
+
+    private final ExecutorService clients = Executors.newFixedThreadPool(CLIENT_COUNT);
+
+    @BeforeEach
+    void setUp() {
+        reservationTimeDao.create(ReservationTimeFixtures.createReservationTime("12:00"));
+        themeDao.create(ThemeFixtures.createDefaultTheme());
+        slotOccupancyIndex.clear();
+        slotHoldRegistry.clear();
+        cachedThemeDao.invalidate();
+        cachedReservationTimeDao.invalidate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clients.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("동시에 접수된 서로 다른 예약은 모두 생성된다.")
+    void createConcurrentReservations() throws Exception {
+        //given
+        List<ReservationCreateRequest> requests = new ArrayList<>();
+        for (int day = 1; day <= CLIENT_COUNT; day++) {
+            requests.add(ReservationCreateRequest.of("다온", "2024-06-%02d".formatted(day), 1L, 1L));
+        }
+
+        //when
+        List<Future<ReservationResponse>> results = submitAll(requests);
+
+        //then
+        List<Long> ids = new ArrayList<>();
+        for (Future<ReservationResponse> result : results) {
+            ids.add(result.get().getId());
+        }
+        assertAll(
+                () -> assertThat(ids).doesNotHaveDuplicates().hasSize(CLIENT_COUNT),
+                () -> assertThat(findAllReservations()).hasSize(CLIENT_COUNT)
+        );
+    }
+
+    @Test
+    @DisplayName("같은 예약 슬롯에 동시에 접수되면 하나만 생성되고 나머지는 중복 예약으로 거절된다.")
+    void rejectConflictsInBatch() throws Exception {
+        //given
+        List<ReservationCreateRequest> requests = new ArrayList<>();
+        for (int i = 0; i < CLIENT_COUNT; i++) {
+            requests.add(ReservationCreateRequest.of("다온" + i, "2024-06-01", 1L, 1L));
+        }
+
+        //when
+        List<Future<ReservationResponse>> results = submitAll(requests);
+
+        //then
+        int created = 0;
+        List<String> failures = new ArrayList<>();
+        for (Future<ReservationResponse> result : results) {
+            try {
+                result.get();
+                created++;
+            } catch (ExecutionException e) {
+                failures.add(e.getCause().getMessage());
+            }
+        }
+        int createdCount = created;
+        assertAll(
+                () -> assertThat(createdCount).isEqualTo(1),
+                () -> assertThat(failures).hasSize(CLIENT_COUNT - 1)
+                        .containsOnly("중복된 예약을 생성할 수 없습니다."),
+                () -> assertThat(findAllReservations()).hasSize(1)
+        );
+    }
+
+    private List<Future<ReservationResponse>> submitAll(List<ReservationCreateRequest> requests) {
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Future<ReservationResponse>> results = new ArrayList<>();
+        for (ReservationCreateRequest request : requests) {
+            Callable<ReservationResponse> task = () -> {
+                ready.await();
+                return reservationService.add(request, NOW);
+            };
+            results.add(clients.submit(task));
+        }
+        ready.countDown();
+        return results;
+    }
+
+    private List<ReservationResponse> findAllReservations() {
+        return reservationService.findAll(ReservationSearchRequest.of(null, null, null, null, null, null));
+    }
+}
@@ -0,0 +1,44 @@
+package roomescape.controller;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import roomescape.dto.cache.CacheStatisticsResponse;
+import roomescape.service.CacheStatisticsService;
+
+@WebMvcTest(CacheStatisticsController.class)
+class CacheStatisticsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @MockitoBean
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Test
+    @DisplayName("캐시 통계를 조회한다.")
+    void readAll() throws Exception {
+        //given
+        given(cacheStatisticsService.findAll())
+                .willReturn(List.of(CacheStatisticsResponse.of("theme", 10L, 2L, 1L)));
+
+        //when //then
+        mockMvc.perform(get("/caches"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].name", is("theme")))
+                .andExpect(jsonPath("$[0].hitCount", is(10)));
+    }
+}
@@ -0,0 +1,44 @@
+package roomescape.controller;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import roomescape.dto.query.QueryStatisticsResponse;
+import roomescape.service.QueryStatisticsService;
+
+@WebMvcTest(QueryStatisticsController.class)
+class QueryStatisticsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @MockitoBean
+    private QueryStatisticsService queryStatisticsService;
+
+    @Test
+    @DisplayName("엔드포인트별 SQL 실행 통계를 조회한다.")
+    void readAll() throws Exception {
+        //given
+        given(queryStatisticsService.findAll())
+                .willReturn(List.of(QueryStatisticsResponse.of("POST /reservations", 10L, 30L, 3L, 12L)));
+
+        //when //then
+        mockMvc.perform(get("/queries"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].endpoint", is("POST /reservations")))
+                .andExpect(jsonPath("$[0].maxStatementCount", is(3)));
+    }
+}
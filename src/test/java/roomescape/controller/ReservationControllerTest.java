@@ -1,30 +1,60 @@
 package roomescape.controller;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
-import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import roomescape.domain.reservation.ReservationBatchMode;
+import roomescape.domain.reservation.ReservationExportFormat;
+import roomescape.domain.reservationtime.ReservationStartAt;
+import roomescape.domain.reservationtime.ReservationTime;
+import roomescape.dto.reservation.AvailableThemeResponse;
+import roomescape.dto.reservation.AvailableThemeSearchRequest;
+import roomescape.dto.reservation.CompactReservationListResponse;
+import roomescape.dto.reservation.CompactReservationResponse;
+import roomescape.dto.reservation.DailyAvailabilityResponse;
+import roomescape.dto.reservation.ReservationBatchCreateRequest;
+import roomescape.dto.reservation.ReservationBatchItemResponse;
+import roomescape.dto.reservation.ReservationBatchResponse;
+import roomescape.dto.reservation.ReservationCalendarRequest;
+import roomescape.dto.reservation.ReservationCalendarResponse;
 import roomescape.dto.reservation.ReservationCreateRequest;
 import roomescape.dto.reservation.ReservationResponse;
+import roomescape.dto.reservation.ReservationSearchRequest;
 import roomescape.dto.reservationtime.ReservationTimeResponse;
 import roomescape.dto.theme.ThemeResponse;
+import roomescape.idempotency.IdempotencyKeyMismatchException;
+import roomescape.idempotency.IdempotentRequestInProgressException;
+import roomescape.idempotency.ReservationIdempotencyStore;
+import roomescape.service.ReservationExportService;
 import roomescape.service.ReservationService;
 
 @WebMvcTest(ReservationController.class)
@@ -34,8 +64,12 @@ class ReservationControllerTest {
     private ObjectMapper objectMapper;
     @Autowired
     private MockMvc mockMvc;
-    @MockBean
+    @MockitoBean
     private ReservationService reservationService;
+    @MockitoBean
+    private ReservationExportService reservationExportService;
+    @MockitoBean
+    private ReservationIdempotencyStore reservationIdempotencyStore;
 
     @Test
     @DisplayName("전체 예약을 조회한다.")
@@ -45,7 +79,7 @@ class ReservationControllerTest {
         String secondDate = "2022-02-05";
         String secondStartAt = "23:22";
         List<ReservationResponse> expectedResponses = getExpectedResponses(firstName, secondDate, secondStartAt);
-        given(reservationService.findAll()).willReturn(expectedResponses);
+        given(reservationService.findAll(any(ReservationSearchRequest.class))).willReturn(expectedResponses);
 
         //when //then
         mockMvc.perform(get("/reservations"))
@@ -58,6 +92,145 @@ class ReservationControllerTest {
                 .andExpect(jsonPath("$[1].time.startAt", is(secondStartAt)));
     }
 
+    @Test
+    @DisplayName("테마와 시간을 한 번씩만 담은 압축 형식으로 예약을 조회한다.")
+    void getAllReservationsCompactTest() throws Exception {
+        //given
+        CompactReservationListResponse expectedResponse = CompactReservationListResponse.of(
+                List.of(
+                        CompactReservationResponse.of(1L, "daon", "2022-02-23", 1L, 1L),
+                        CompactReservationResponse.of(2L, "ikjo", "2022-02-24", 1L, 1L)
+                ),
+                List.of(ReservationTimeResponse.of(1L, "12:12")),
+                List.of(ThemeResponse.of(1L, "방탈출1", "1번 방탈출", "썸네일1"))
+        );
+        given(reservationService.findAllCompact(any(ReservationSearchRequest.class))).willReturn(expectedResponse);
+
+        //when //then
+        mockMvc.perform(get("/reservations")
+                        .param("view", "compact"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reservations", hasSize(2)))
+                .andExpect(jsonPath("$.reservations[1].themeId", is(1)))
+                .andExpect(jsonPath("$.times", hasSize(1)))
+                .andExpect(jsonPath("$.themes[0].name", is("방탈출1")));
+    }
+
+    @Test
+    @DisplayName("전체 예약을 CSV 파일로 내보낸다.")
+    void exportReservationsTest() throws Exception {
+        //given
+        String csv = "id,name,date,time_id,start_at,theme_id,theme_name\n1,daon,2022-02-23,1,12:12,1,방탈출1\n";
+        willAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write(csv.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).given(reservationExportService).export(eq(ReservationExportFormat.CSV), any(OutputStream.class));
+
+        //when //then
+        mockMvc.perform(get("/reservations/export")
+                        .param("format", "csv"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, containsString("reservations.csv")))
+                .andExpect(content().string(csv));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 내보내기 형식이면 예외가 발생한다.")
+    void exportReservationsByInvalidFormatTest() throws Exception {
+        //when //then
+        mockMvc.perform(get("/reservations/export")
+                        .param("format", "xml"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("마지막 예약 아이디와 조회 조건으로 예약을 조회한다.")
+    void getReservationsByConditionTest() throws Exception {
+        //given
+        ReservationSearchRequest expectedRequest = ReservationSearchRequest.of(
+                10L, 2, "2024-05-01", "2024-05-31", 1L, null
+        );
+        List<ReservationResponse> expectedResponses = getExpectedResponses("daon", "2024-05-05", "12:00");
+        given(reservationService.findAll(expectedRequest)).willReturn(expectedResponses);
+
+        //when //then
+        mockMvc.perform(get("/reservations")
+                        .param("lastId", "10")
+                        .param("size", "2")
+                        .param("dateFrom", "2024-05-01")
+                        .param("dateTo", "2024-05-31")
+                        .param("themeId", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)));
+    }
+
+    @Test
+    @DisplayName("날짜와 시간 범위에 예약 가능한 테마를 조회한다.")
+    void getAvailableThemesTest() throws Exception {
+        //given
+        AvailableThemeSearchRequest expectedRequest = AvailableThemeSearchRequest.of("2024-05-05", "18:00", "22:00");
+        List<AvailableThemeResponse> responses = List.of(AvailableThemeResponse.of(
+                ThemeResponse.of(1L, "방탈출1", "1번 방탈출", "썸네일1"),
+                List.of(ReservationTimeResponse.of(1L, "19:00"))
+        ));
+        given(reservationService.findAvailableThemes(eq(expectedRequest), any(LocalDateTime.class)))
+                .willReturn(responses);
+
+        //when //then
+        mockMvc.perform(get("/reservations/available-themes")
+                        .param("date", "2024-05-05")
+                        .param("from", "18:00")
+                        .param("to", "22:00"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].theme.name", is("방탈출1")))
+                .andExpect(jsonPath("$[0].times[0].startAt", is("19:00")));
+    }
+
+    @Test
+    @DisplayName("날짜와 테마의 예약 변경 이벤트를 구독한다.")
+    void subscribeSlotChangesTest() throws Exception {
+        //given
+        given(reservationService.subscribeSlotChanges("2024-05-05", 1L)).willReturn(new SseEmitter());
+
+        //when //then
+        mockMvc.perform(get("/reservations/slot-events")
+                        .param("date", "2024-05-05")
+                        .param("themeId", "1"))
+                .andDo(print())
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    @DisplayName("테마의 월간 예약 가능 현황을 조회한다.")
+    void getCalendarTest() throws Exception {
+        //given
+        ReservationCalendarRequest expectedRequest = ReservationCalendarRequest.of(1L, "2024-05", null, null);
+        ReservationCalendarResponse response = ReservationCalendarResponse.of(
+                1L,
+                List.of(new ReservationTime(1L, ReservationStartAt.from("10:00"))),
+                List.of(DailyAvailabilityResponse.of(LocalDate.of(2024, 5, 1), List.of(true)))
+        );
+        given(reservationService.findCalendar(eq(expectedRequest), any(LocalDateTime.class))).willReturn(response);
+
+        //when //then
+        mockMvc.perform(get("/reservations/calendar")
+                        .param("themeId", "1")
+                        .param("month", "2024-05"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.times[0].startAt", is("10:00")))
+                .andExpect(jsonPath("$.days[0].date", is("2024-05-01")))
+                .andExpect(jsonPath("$.days[0].slots", is("1")));
+    }
+
     @Test
     @DisplayName("예약을 성공적으로 추가한다.")
     void addReservationTest() throws Exception {
@@ -88,6 +261,103 @@ class ReservationControllerTest {
                 .andExpect(jsonPath("$.time.startAt", is(expectedStartAt)));
     }
 
+    @Test
+    @DisplayName("멱등성 키가 있으면 저장된 응답을 재사용해 예약을 추가한다.")
+    void addReservationWithIdempotencyKeyTest() throws Exception {
+        //given
+        ReservationCreateRequest givenRequest = ReservationCreateRequest.of("daon", "2024-05-05", 1L, 1L);
+        ReservationResponse response = ReservationResponse.of(
+                1L,
+                "daon",
+                "2024-05-05",
+                ReservationTimeResponse.of(1L, "19:01"),
+                ThemeResponse.of(1L, "방탈출1", "1번 방탈출", "썸네일1")
+        );
+        given(reservationIdempotencyStore.execute(
+                eq("retry-key"), any(ReservationCreateRequest.class), any(), any()
+        )).willReturn(response);
+
+        //when //then
+        mockMvc.perform(post("/reservations")
+                        .header("Idempotency-Key", "retry-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(givenRequest)))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id", is(1)))
+                .andExpect(jsonPath("$.name", is("daon")));
+    }
+
+    @Test
+    @DisplayName("같은 멱등성 키로 다른 예약을 요청하면 Unprocessable Entity 응답을 반환한다.")
+    void addReservationWithReusedIdempotencyKeyTest() throws Exception {
+        //given
+        ReservationCreateRequest givenRequest = ReservationCreateRequest.of("daon", "2024-05-05", 1L, 1L);
+        given(reservationIdempotencyStore.execute(
+                eq("retry-key"), any(ReservationCreateRequest.class), any(), any()
+        )).willThrow(new IdempotencyKeyMismatchException("같은 멱등성 키로 다른 예약을 요청할 수 없습니다."));
+
+        //when //then
+        mockMvc.perform(post("/reservations")
+                        .header("Idempotency-Key", "retry-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(givenRequest)))
+                .andDo(print())
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(content().string("같은 멱등성 키로 다른 예약을 요청할 수 없습니다."));
+    }
+
+    @Test
+    @DisplayName("같은 멱등성 키의 예약이 아직 처리 중이면 Conflict 응답을 반환한다.")
+    void addReservationWithInFlightIdempotencyKeyTest() throws Exception {
+        //given
+        ReservationCreateRequest givenRequest = ReservationCreateRequest.of("daon", "2024-05-05", 1L, 1L);
+        given(reservationIdempotencyStore.execute(
+                eq("retry-key"), any(ReservationCreateRequest.class), any(), any()
+        )).willThrow(new IdempotentRequestInProgressException("같은 멱등성 키의 예약을 처리하고 있습니다. 잠시 후 다시 시도해주세요."));
+
+        //when //then
+        mockMvc.perform(post("/reservations")
+                        .header("Idempotency-Key", "retry-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(givenRequest)))
+                .andDo(print())
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("예약을 일괄 추가하고 항목별 결과를 응답한다.")
+    void addReservationsTest() throws Exception {
+        //given
+        ReservationCreateRequest givenRequest = ReservationCreateRequest.of("daon", "2024-05-05", 1L, 1L);
+        ReservationBatchCreateRequest batchRequest = ReservationBatchCreateRequest.of(
+                "BEST_EFFORT", List.of(givenRequest, givenRequest)
+        );
+        ReservationResponse created = ReservationResponse.of(
+                1L,
+                "daon",
+                "2024-05-05",
+                ReservationTimeResponse.of(1L, "19:01"),
+                ThemeResponse.of(1L, "방탈출1", "1번 방탈출", "썸네일1")
+        );
+        ReservationBatchResponse response = ReservationBatchResponse.of(ReservationBatchMode.BEST_EFFORT, List.of(
+                ReservationBatchItemResponse.of(0, true, created, null),
+                ReservationBatchItemResponse.of(1, false, null, "중복된 예약을 생성할 수 없습니다.")
+        ));
+        given(reservationService.addAll(any(ReservationBatchCreateRequest.class), any(LocalDateTime.class)))
+                .willReturn(response);
+
+        //when //then
+        mockMvc.perform(post("/reservations/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batchRequest)))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.createdCount", is(1)))
+                .andExpect(jsonPath("$.results[1].created", is(false)))
+                .andExpect(jsonPath("$.results[1].message", is("중복된 예약을 생성할 수 없습니다.")));
+    }
+
     @Test
     @DisplayName("예약을 성공적으로 삭제한다.")
     void deleteReservationTest() throws Exception {
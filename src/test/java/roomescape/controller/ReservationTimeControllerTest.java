@@ -4,10 +4,13 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -20,9 +23,11 @@ import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
-import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import roomescape.dto.reservationtime.ReservationTimeBulkCreateRequest;
 import roomescape.dto.reservationtime.ReservationTimeCreateRequest;
 import roomescape.dto.reservationtime.ReservationTimeResponse;
 import roomescape.service.ReservationTimeService;
@@ -34,7 +39,7 @@ class ReservationTimeControllerTest {
     private MockMvc mockMvc;
     @Autowired
     private ObjectMapper objectMapper;
-    @MockBean
+    @MockitoBean
     private ReservationTimeService reservationTimeService;
 
     @Test
@@ -49,6 +54,8 @@ class ReservationTimeControllerTest {
         );
         given(reservationTimeService.findAll())
                 .willReturn(responses);
+        given(reservationTimeService.getVersionTag())
+                .willReturn("times-1");
 
         //when //then
         mockMvc.perform(get("/times"))
@@ -57,7 +64,23 @@ class ReservationTimeControllerTest {
                 .andExpect(jsonPath("$", hasSize(2)))
                 .andExpect(jsonPath("$[0].id", is(1)))
                 .andExpect(jsonPath("$[0].startAt", is(firstStartAt)))
-                .andExpect(jsonPath("$[1].startAt", is(secondStartAt)));
+                .andExpect(jsonPath("$[1].startAt", is(secondStartAt)))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"times-1\""));
+    }
+
+    @Test
+    @DisplayName("예약 시간 버전이 바뀌지 않았다면 Not Modified 응답을 반환한다.")
+    void readAllNotModified() throws Exception {
+        //given
+        given(reservationTimeService.getVersionTag())
+                .willReturn("times-1");
+
+        //when //then
+        mockMvc.perform(get("/times")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"times-1\""))
+                .andDo(print())
+                .andExpect(status().isNotModified());
+        verify(reservationTimeService, never()).findAll();
     }
 
     @Test
@@ -81,6 +104,29 @@ class ReservationTimeControllerTest {
                 .andExpect(jsonPath("$.startAt", is(startAt)));
     }
 
+    @Test
+    @DisplayName("시작 시간부터 종료 시간까지 일정 간격의 예약 시간을 한 번에 추가한다.")
+    void createAll() throws Exception {
+        //given
+        ReservationTimeBulkCreateRequest givenRequest = ReservationTimeBulkCreateRequest.of("10:00", "11:00", 30);
+        List<ReservationTimeResponse> expectedResponses = List.of(
+                ReservationTimeResponse.of(1L, "10:00"),
+                ReservationTimeResponse.of(2L, "10:30"),
+                ReservationTimeResponse.of(3L, "11:00")
+        );
+        given(reservationTimeService.addAll(givenRequest)).willReturn(expectedResponses);
+        String requestBody = objectMapper.writeValueAsString(givenRequest);
+
+        //when //then
+        mockMvc.perform(post("/times/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(3)))
+                .andExpect(jsonPath("$[1].startAt", is("10:30")));
+    }
+
     @Test
     @DisplayName("예약 시간을 성공적으로 삭제한다.")
     void deleteWithId() throws Exception {
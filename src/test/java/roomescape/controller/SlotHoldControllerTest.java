@@ -0,0 +1,96 @@
+package roomescape.controller;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import roomescape.dto.reservation.SlotHoldCreateRequest;
+import roomescape.dto.reservation.SlotHoldResponse;
+import roomescape.service.SlotHoldService;
+
+@WebMvcTest(SlotHoldController.class)
+class SlotHoldControllerTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private MockMvc mockMvc;
+    @MockitoBean
+    private SlotHoldService slotHoldService;
+
+    @Test
+    @DisplayName("예약 시간을 선점하고 선점 토큰을 응답한다.")
+    void createHold() throws Exception {
+        //given
+        SlotHoldCreateRequest request = SlotHoldCreateRequest.of("2024-05-03", 1L, 1L);
+        given(slotHoldService.hold(any(SlotHoldCreateRequest.class), any(LocalDateTime.class)))
+                .willReturn(SlotHoldResponse.of("token", "2024-05-03", 1L, 1L, "2024-05-02T12:07"));
+
+        //when //then
+        mockMvc.perform(post("/reservations/holds")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/reservations/holds/token"))
+                .andExpect(jsonPath("$.token", is("token")))
+                .andExpect(jsonPath("$.expiresAt", is("2024-05-02T12:07")));
+    }
+
+    @Test
+    @DisplayName("이미 선점된 시간이면 Bad Request 응답을 반환한다.")
+    void createHoldOnHeldSlot() throws Exception {
+        //given
+        SlotHoldCreateRequest request = SlotHoldCreateRequest.of("2024-05-03", 1L, 1L);
+        given(slotHoldService.hold(any(SlotHoldCreateRequest.class), any(LocalDateTime.class)))
+                .willThrow(new IllegalArgumentException("다른 사용자가 예약 중인 시간입니다."));
+
+        //when //then
+        mockMvc.perform(post("/reservations/holds")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("다른 사용자가 예약 중인 시간입니다."));
+    }
+
+    @Test
+    @DisplayName("선점을 해제한다.")
+    void deleteHold() throws Exception {
+        //when //then
+        mockMvc.perform(delete("/reservations/holds/{token}", "token"))
+                .andDo(print())
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 선점을 해제하면 Bad Request 응답을 반환한다.")
+    void deleteUnknownHold() throws Exception {
+        //given
+        willThrow(new IllegalArgumentException("해당 토큰을 가진 예약 선점이 존재하지 않습니다."))
+                .given(slotHoldService).release("unknown");
+
+        //when //then
+        mockMvc.perform(delete("/reservations/holds/{token}", "unknown"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+}
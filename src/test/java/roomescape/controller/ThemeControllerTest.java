@@ -1,21 +1,27 @@
 package roomescape.controller;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDate;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
-import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 import roomescape.dto.theme.ThemeCreateRequest;
 import roomescape.dto.theme.ThemeResponse;
@@ -28,7 +34,7 @@ class ThemeControllerTest {
     private MockMvc mockMvc;
     @Autowired
     private ObjectMapper objectMapper;
-    @MockBean
+    @MockitoBean
     private ThemeService themeService;
 
     @Test
@@ -41,11 +47,46 @@ class ThemeControllerTest {
         );
         given(themeService.findAll())
                 .willReturn(responses);
+        given(themeService.getVersionTag())
+                .willReturn("themes-1");
 
         //when //then
         mockMvc.perform(get("/themes"))
                 .andDo(print())
-                .andExpect(status().isOk());
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"themes-1\""));
+    }
+
+    @Test
+    @DisplayName("테마 버전이 바뀌지 않았다면 Not Modified 응답을 반환한다.")
+    void readAllNotModified() throws Exception {
+        //given
+        given(themeService.getVersionTag())
+                .willReturn("themes-1");
+
+        //when //then
+        mockMvc.perform(get("/themes")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"themes-1\""))
+                .andDo(print())
+                .andExpect(status().isNotModified());
+        verify(themeService, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("인기 테마를 다음 자정까지 캐시할 수 있도록 응답한다.")
+    void readPopularThemes() throws Exception {
+        //given
+        given(themeService.findPopulars(any(LocalDate.class), any(LocalDate.class)))
+                .willReturn(List.of(ThemeResponse.of(1L, "방탈출1", "1번 방탈출", "썸네일 1")));
+        given(themeService.getPopularVersionTag(any(LocalDate.class)))
+                .willReturn("populars-1");
+
+        //when //then
+        mockMvc.perform(get("/themes/populars"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"populars-1\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=")));
     }
 
     @Test
@@ -0,0 +1,149 @@
+package roomescape.dao;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+import roomescape.domain.reservation.ReservationDate;
+import roomescape.domain.reservation.ReservationPeriod;
+import roomescape.domain.reservation.ReservationSearchCondition;
+import roomescape.domain.reservationtime.ReservationStartAt;
+import roomescape.domain.reservationtime.ReservationTime;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@Sql(value = "classpath:test_db_clean.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(value = "classpath:test_large_data.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+class QueryPlanTest {
+
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<String> executedStatements = new ArrayList<>();
+    private Daos daos;
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate recordingTemplate = new JdbcTemplate(new StatementRecordingDataSource(dataSource));
+        daos = new Daos(
+                new JdbcReservationDao(recordingTemplate),
+                new JdbcReservationTimeDao(recordingTemplate),
+                new JdbcThemeDao(recordingTemplate)
+        );
+    }
+
+    static Stream<Arguments> daoCalls() {
+        return Stream.of(
+                Arguments.of("예약 목록 조회", List.of("RESERVATION"), call(daos -> daos.reservationDao().readAll(
+                        ReservationSearchCondition.of(30000L, 100, null, null, null, null)
+                ))),
+                Arguments.of("조건별 예약 목록 조회", List.of("RESERVATION"), call(daos -> daos.reservationDao().readAll(
+                        ReservationSearchCondition.of(null, 100, "2024-01-10", "2024-01-12", 3L, null)
+                ))),
+                Arguments.of("날짜와 테마별 예약 시간 아이디 조회", List.of("RESERVATION"), call(daos -> daos.reservationDao()
+                        .readBookedTimeIds(ReservationDate.from("2024-01-10"), 3L))),
+                Arguments.of("일자별 테마 예약 수 조회", List.of("RESERVATION"), call(daos -> daos.reservationDao()
+                        .readReservationCountsByThemeId(LocalDate.of(2024, 1, 10)))),
+                Arguments.of("테마별 기간 예약 시간 조회", List.of("RESERVATION"), call(daos -> daos.reservationDao()
+                        .readBookedTimeIdsByThemeId(3L, ReservationPeriod.ofMonth("2024-01")))),
+                Arguments.of("날짜별 예약 시간 조회", List.of("RESERVATION"), call(daos -> daos.reservationDao()
+                        .readBookedTimeIdsByDate(ReservationDate.from("2024-01-10")))),
+                Arguments.of("예약 슬롯 조회", List.of("RESERVATION"), call(daos -> daos.reservationDao().readSlots(
+                        Set.of(LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 11)),
+                        Set.of(3L, 4L)
+                ))),
+                Arguments.of("예약 삭제", List.of("RESERVATION"), call(daos -> daos.reservationDao()
+                        .deleteById(100L))),
+                Arguments.of("예약 시간 조회", List.of("RESERVATION_TIME"), call(daos -> daos.reservationTimeDao()
+                        .readById(1L))),
+                Arguments.of("예약 시간 존재 확인", List.of("RESERVATION_TIME"), call(daos -> daos.reservationTimeDao()
+                        .exist(1L))),
+                Arguments.of("예약 시간 중복 확인", List.of("RESERVATION_TIME"), call(daos -> daos.reservationTimeDao()
+                        .exist(new ReservationTime(null, ReservationStartAt.from("10:00"))))),
+                Arguments.of("예약 시간 삭제", List.of("RESERVATION_TIME", "RESERVATION"), call(daos -> daos
+                        .reservationTimeDao().deleteIfNotReferenced(1L))),
+                Arguments.of("테마 조회", List.of("THEME"), call(daos -> daos.themeDao().readById(1L))),
+                Arguments.of("테마 존재 확인", List.of("THEME"), call(daos -> daos.themeDao().exist(1L))),
+                Arguments.of("테마명 중복 확인", List.of("THEME"), call(daos -> daos.themeDao().exist("방탈출1"))),
+                Arguments.of("테마 삭제", List.of("THEME", "RESERVATION"), call(daos -> daos.themeDao()
+                        .deleteIfNotReferenced(1L)))
+        );
+    }
+
+    private static Consumer<Daos> call(Consumer<Daos> call) {
+        return call;
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("daoCalls")
+    @DisplayName("DAO 쿼리는 대량의 데이터에서도 테이블 전체를 스캔하지 않는다.")
+    void statementDoesNotScanTable(String name, List<String> tables, Consumer<Daos> call) {
+        //given
+        call.accept(daos);
+
+        //when
+        List<String> plans = executedStatements.stream()
+                .map(sql -> String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class)))
+                .toList();
+
+        //then
+        assertThat(plans).isNotEmpty().allSatisfy(plan -> {
+            for (String table : tables) {
+                assertThat(plan).doesNotContain("PUBLIC." + table + ".tableScan");
+            }
+        });
+    }
+
+    private record Daos(JdbcReservationDao reservationDao,
+                        JdbcReservationTimeDao reservationTimeDao,
+                        JdbcThemeDao themeDao) {
+    }
+
+    private class StatementRecordingDataSource extends DelegatingDataSource {
+
+        private StatementRecordingDataSource(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            return (Connection) Proxy.newProxyInstance(
+                    getClass().getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().startsWith("prepare") && args[0] instanceof String sql) {
+                            executedStatements.add(sql);
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    }
+            );
+        }
+    }
+}
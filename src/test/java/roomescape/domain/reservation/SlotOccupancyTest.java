@@ -0,0 +1,58 @@
+package roomescape.domain.reservation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import roomescape.domain.reservationtime.ReservationStartAt;
+import roomescape.domain.reservationtime.ReservationTime;
+import roomescape.domain.reservationtime.ReservationTimeCatalog;
+
+class SlotOccupancyTest {
+
+    private final ReservationTimeCatalog catalog = ReservationTimeCatalog.from(List.of(
+            new ReservationTime(1_000_000L, ReservationStartAt.from("10:00")),
+            new ReservationTime(7L, ReservationStartAt.from("12:00"))
+    ));
+
+    @Test
+    @DisplayName("시간 아이디가 커도 시간 목록의 순서로 예약 여부를 기록한다.")
+    void bookByCatalogOrdinal() {
+        //given
+        SlotOccupancy occupancy = SlotOccupancy.of(catalog, List.of(1_000_000L));
+
+        //when
+        SlotOccupancy booked = occupancy.book(7L);
+        SlotOccupancy cancelled = booked.cancel(1_000_000L);
+
+        //then
+        assertAll(
+                () -> assertThat(occupancy.isBooked(1_000_000L)).isTrue(),
+                () -> assertThat(occupancy.isBooked(7L)).isFalse(),
+                () -> assertThat(booked.isBooked(7L)).isTrue(),
+                () -> assertThat(cancelled.isBooked(1_000_000L)).isFalse(),
+                () -> assertThat(cancelled.isBooked(7L)).isTrue()
+        );
+    }
+
+    @Test
+    @DisplayName("시간 목록에 없는 시간의 예약도 놓치지 않는다.")
+    void bookUncataloguedTime() {
+        //given
+        SlotOccupancy occupancy = SlotOccupancy.of(catalog, List.of(99L));
+
+        //when
+        SlotOccupancy booked = occupancy.book(100L);
+        SlotOccupancy cancelled = booked.cancel(99L);
+
+        //then
+        assertAll(
+                () -> assertThat(occupancy.isBooked(99L)).isTrue(),
+                () -> assertThat(booked.isBooked(100L)).isTrue(),
+                () -> assertThat(cancelled.isBooked(99L)).isFalse(),
+                () -> assertThat(cancelled.isBooked(100L)).isTrue()
+        );
+    }
+}
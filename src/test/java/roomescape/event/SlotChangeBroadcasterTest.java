@@ -0,0 +1,55 @@
+package roomescape.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class SlotChangeBroadcasterTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 5, 3);
+
+    private SlotChangeBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.close();
+    }
+
+    @Test
+    @DisplayName("같은 날짜와 테마의 구독자가 한도에 이르면 구독을 거절한다.")
+    void rejectSubscriberOverKeyLimit() {
+        //given
+        broadcaster = new SlotChangeBroadcaster(1000, 2, 10);
+        broadcaster.subscribe(DATE, 1L);
+        broadcaster.subscribe(DATE, 1L);
+
+        //when //then
+        assertAll(
+                () -> assertThatThrownBy(() -> broadcaster.subscribe(DATE, 1L))
+                        .isInstanceOf(SlotSubscriptionLimitException.class),
+                () -> assertThat(broadcaster.subscribe(DATE, 2L)).isNotNull(),
+                () -> assertThat(broadcaster.countSubscribers()).isEqualTo(3)
+        );
+    }
+
+    @Test
+    @DisplayName("전체 구독자가 한도에 이르면 다른 날짜와 테마의 구독도 거절한다.")
+    void rejectSubscriberOverTotalLimit() {
+        //given
+        broadcaster = new SlotChangeBroadcaster(1000, 10, 2);
+        broadcaster.subscribe(DATE, 1L);
+        broadcaster.subscribe(DATE, 2L);
+
+        //when //then
+        assertAll(
+                () -> assertThatThrownBy(() -> broadcaster.subscribe(DATE.plusDays(1), 3L))
+                        .isInstanceOf(SlotSubscriptionLimitException.class),
+                () -> assertThat(broadcaster.countSubscribers()).isEqualTo(2)
+        );
+    }
+}
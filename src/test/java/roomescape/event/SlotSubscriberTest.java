@@ -0,0 +1,44 @@
+package roomescape.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import roomescape.domain.reservation.ReservationSlot;
+import roomescape.domain.reservationtime.ReservationTime;
+import roomescape.dto.reservation.SlotChangeResponse;
+import roomescape.fixture.ReservationTimeFixtures;
+
+class SlotSubscriberTest {
+
+    @Test
+    @DisplayName("하트비트는 SSE 주석으로 보내고 밀린 이벤트를 이어서 보낸다.")
+    void heartbeat() {
+        //given
+        RecordingEmitter emitter = new RecordingEmitter();
+        SlotSubscriber subscriber = new SlotSubscriber(emitter, 4);
+        ReservationTime time = ReservationTimeFixtures.createReservationTime("12:00");
+        subscriber.offer(SlotChangeResponse.of(new ReservationSlot(LocalDate.of(2024, 5, 3), 1L, 1L), time, true));
+
+        //when
+        subscriber.startDraining();
+        subscriber.heartbeat();
+
+        //then
+        assertThat(emitter.sent).containsExactly(":heartbeat\n\n", "event:slot\ndata:");
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> sent = new ArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sent.add(builder.build().iterator().next().getData().toString());
+        }
+    }
+}
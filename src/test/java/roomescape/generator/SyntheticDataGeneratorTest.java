@@ -0,0 +1,86 @@
+package roomescape.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import roomescape.dto.theme.ThemeResponse;
+import roomescape.service.ThemeService;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:load",
+        "generator.reservation-count=1000",
+        "generator.theme-count=20",
+        "generator.time-count=24",
+        "generator.start-date=2024-01-01",
+        "generator.days=28",
+        "generator.hot-theme-ratio=0.1",
+        "generator.hot-theme-share=0.5",
+        "generator.weekend-weight=2.5",
+        "generator.batch-size=100"
+})
+@ActiveProfiles("load")
+class SyntheticDataGeneratorTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ThemeService themeService;
+
+    @Test
+    @DisplayName("설정한 개수만큼 테마, 시간, 예약을 생성한다.")
+    void generate() {
+        //when
+        Long themeCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM theme", Long.class);
+        Long timeCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reservation_time", Long.class);
+        Long reservationCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM reservation", Long.class);
+
+        //then
+        assertAll(
+                () -> assertThat(themeCount).isEqualTo(20),
+                () -> assertThat(timeCount).isEqualTo(24),
+                () -> assertThat(reservationCount).isEqualTo(1000)
+        );
+    }
+
+    @Test
+    @DisplayName("주말에는 평일보다 예약이 많이 생성된다.")
+    void generateWeekendSkew() {
+        //when
+        Double weekendAverage = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) / 8.0 FROM reservation WHERE ISO_DAY_OF_WEEK(`date`) >= 6
+                """, Double.class);
+        Double weekdayAverage = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) / 20.0 FROM reservation WHERE ISO_DAY_OF_WEEK(`date`) < 6
+                """, Double.class);
+
+        //then
+        assertThat(weekendAverage).isGreaterThan(weekdayAverage * 2);
+    }
+
+    @Test
+    @DisplayName("인기 테마에 예약이 몰리도록 생성된다.")
+    void generateHotThemeSkew() {
+        //when
+        Long hotThemeCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM reservation WHERE theme_id IN (1, 2)", Long.class
+        );
+        List<ThemeResponse> populars = themeService.findPopulars(
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 28)
+        );
+
+        //then
+        assertAll(
+                () -> assertThat(hotThemeCount).isGreaterThan(400),
+                () -> assertThat(populars.subList(0, 2)).extracting(ThemeResponse::getId)
+                        .containsExactlyInAnyOrder(1L, 2L)
+        );
+    }
+}
@@ -0,0 +1,51 @@
+package roomescape.hold;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TimerWheelTest {
+
+    @Test
+    @DisplayName("지정한 틱이 지나면 만료된다.")
+    void advance() {
+        //given
+        TimerWheel<String> wheel = new TimerWheel<>(4);
+        wheel.schedule("first", 1);
+        wheel.schedule("second", 3);
+
+        //when
+        List<String> firstTick = wheel.advance();
+        List<String> secondTick = wheel.advance();
+        List<String> thirdTick = wheel.advance();
+
+        //then
+        assertAll(
+                () -> assertThat(firstTick).containsExactly("first"),
+                () -> assertThat(secondTick).isEmpty(),
+                () -> assertThat(thirdTick).containsExactly("second")
+        );
+    }
+
+    @Test
+    @DisplayName("바퀴 크기보다 긴 만료 시간은 바퀴를 다시 돌아야 만료된다.")
+    void advanceOverRounds() {
+        //given
+        TimerWheel<String> wheel = new TimerWheel<>(4);
+        wheel.schedule("item", 6);
+
+        //when
+        int expiredTick = 0;
+        for (int tick = 1; tick <= 8; tick++) {
+            if (!wheel.advance().isEmpty()) {
+                expiredTick = tick;
+            }
+        }
+
+        //then
+        assertThat(expiredTick).isEqualTo(6);
+    }
+}
@@ -0,0 +1,244 @@
+package roomescape.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import roomescape.dto.reservation.ReservationCreateRequest;
+import roomescape.dto.reservation.ReservationResponse;
+import roomescape.dto.reservationtime.ReservationTimeResponse;
+import roomescape.dto.theme.ThemeResponse;
+
+class ReservationIdempotencyStoreTest {
+
+    private static final long SHORT_AWAIT_MILLIS = 50;
+    private static final ReservationCreateRequest REQUEST = ReservationCreateRequest.of("다온", "2024-05-03", 1L, 1L);
+
+    private final AtomicInteger executionCount = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 키로 다시 요청하면 처음 응답을 돌려주고 예약을 다시 실행하지 않는다.")
+    void replayCompletedResponse() {
+        //given
+        ReservationIdempotencyStore store = new ReservationIdempotencyStore(60, 10, 5000);
+        ReservationResponse first = store.execute("key", REQUEST, Optional::empty, this::createResponse);
+
+        //when
+        ReservationResponse retried = store.execute("key", REQUEST, Optional::empty, this::createResponse);
+
+        //then
+        assertAll(
+                () -> assertThat(retried).isEqualTo(first),
+                () -> assertThat(executionCount.get()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("처리 중인 요청과 같은 키로 요청하면 처음 요청의 결과를 기다린다.")
+    void waitInFlightRequest() throws Exception {
+        //given
+        ReservationIdempotencyStore store = new ReservationIdempotencyStore(60, 10, 5000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<ReservationResponse> first = executor.submit(() -> store.execute("key", REQUEST, Optional::empty, () -> {
+            started.countDown();
+            await(release);
+            return createResponse();
+        }));
+        started.await(5, TimeUnit.SECONDS);
+
+        //when
+        Future<ReservationResponse> retried = executor.submit(
+                () -> store.execute("key", REQUEST, Optional::empty, this::createResponse)
+        );
+        release.countDown();
+
+        //then
+        assertAll(
+                () -> assertThat(retried.get(5, TimeUnit.SECONDS)).isEqualTo(first.get(5, TimeUnit.SECONDS)),
+                () -> assertThat(executionCount.get()).isEqualTo(1)
+        );
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 저장하지 않아 같은 키로 다시 실행할 수 있다.")
+    void retryFailedRequest() {
+        //given
+        ReservationIdempotencyStore store = new ReservationIdempotencyStore(60, 10, 5000);
+        assertThatThrownBy(() -> store.execute("key", REQUEST, Optional::empty, () -> {
+            throw new IllegalArgumentException("중복된 예약을 생성할 수 없습니다.");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        //when
+        store.execute("key", REQUEST, Optional::empty, this::createResponse);
+
+        //then
+        assertThat(executionCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리 중인 요청이 제한 시간 안에 끝나지 않으면 기다리지 않고 예외가 발생한다.")
+    void rejectWhenInFlightRequestTakesTooLong() throws Exception {
+        //given
+        ReservationIdempotencyStore store = new ReservationIdempotencyStore(60, 10, SHORT_AWAIT_MILLIS);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<ReservationResponse> first = executor.submit(() -> store.execute("key", REQUEST, Optional::empty, () -> {
+            started.countDown();
+            await(release);
+            return createResponse();
+        }));
+        started.await(5, TimeUnit.SECONDS);
+
+        //when //then
+        assertThatThrownBy(() -> store.execute("key", REQUEST, Optional::empty, this::createResponse))
+                .isInstanceOf(IdempotentRequestInProgressException.class);
+        release.countDown();
+        assertThat(store.execute("key", REQUEST, Optional::empty, this::createResponse))
+                .isEqualTo(first.get(5, TimeUnit.SECONDS));
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("결과를 알 수 없이 실패한 요청을 다시 보내면 이미 저장된 예약을 돌려준다.")
+    void recoverCommittedReservation() {
+        //given
+        ReservationIdempotencyStore store = new ReservationIdempotencyStore(60, 10, 5000);
+        ReservationResponse committed = createResponse();
+        assertThatThrownBy(() -> store.execute("key", REQUEST, Optional::empty, () -> {
+            throw new DataAccessResourceFailureException("커밋 응답 유실");
+        })).isInstanceOf(DataAccessResourceFailureException.class);
+
+        //when
+        ReservationResponse retried = store.execute("key", REQUEST, () -> Optional.of(committed), this::createResponse);
+
+        //then
+        assertAll(
+                () -> assertThat(retried).isEqualTo(committed),
+                () -> assertThat(executionCount.get()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("결과를 알 수 없이 실패한 요청이 저장되지 않았다면 다시 보낼 때 예약을 실행한다.")
+    void retryUncommittedReservation() {
+        //given
+        ReservationIdempotencyStore store = new ReservationIdempotencyStore(60, 10, 5000);
+        assertThatThrownBy(() -> store.execute("key", REQUEST, Optional::empty, () -> {
+            throw new DataAccessResourceFailureException("커밋 응답 유실");
+        })).isInstanceOf(DataAccessResourceFailureException.class);
+
+        //when
+        ReservationResponse retried = store.execute("key", REQUEST, Optional::empty, this::createResponse);
+
+        //then
+        assertAll(
+                () -> assertThat(retried.getId()).isEqualTo(1L),
+                () -> assertThat(store.execute("key", REQUEST, Optional::empty, this::createResponse))
+                        .isEqualTo(retried),
+                () -> assertThat(executionCount.get()).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 예약을 요청하면 예외가 발생한다.")
+    void rejectDifferentRequest() {
+        //given
+        ReservationIdempotencyStore store = new ReservationIdempotencyStore(60, 10, 5000);
+        store.execute("key", REQUEST, Optional::empty, this::createResponse);
+        ReservationCreateRequest otherRequest = ReservationCreateRequest.of("브라운", "2024-05-03", 1L, 1L);
+
+        //when //then
+        assertThatThrownBy(() -> store.execute("key", otherRequest, Optional::empty, this::createResponse))
+                .isInstanceOf(IdempotencyKeyMismatchException.class)
+                .hasMessage("같은 멱등성 키로 다른 예약을 요청할 수 없습니다.");
+    }
+
+    @Test
+    @DisplayName("처리 중인 요청으로 저장 공간이 가득 차면 제거하지 않고 새 키를 거절한다.")
+    void rejectNewKeyWhenFullOfInFlightRequests() throws Exception {
+        //given
+        ReservationIdempotencyStore store = new ReservationIdempotencyStore(60, 1, 5000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<ReservationResponse> first = executor.submit(
+                () -> store.execute("first", REQUEST, Optional::empty, () -> {
+                    started.countDown();
+                    await(release);
+                    return createResponse();
+                })
+        );
+        started.await(5, TimeUnit.SECONDS);
+
+        //when //then
+        assertThatThrownBy(() -> store.execute("second", REQUEST, Optional::empty, this::createResponse))
+                .isInstanceOf(IdempotencyStoreFullException.class);
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        store.execute("first", REQUEST, Optional::empty, this::createResponse);
+        assertThat(executionCount.get()).isEqualTo(1);
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("저장 개수를 넘으면 처리가 끝난 가장 오래된 응답부터 제거한다.")
+    void evictEldest() {
+        //given
+        ReservationIdempotencyStore store = new ReservationIdempotencyStore(60, 1, 5000);
+        store.execute("first", REQUEST, Optional::empty, this::createResponse);
+        store.execute("second", REQUEST, Optional::empty, this::createResponse);
+
+        //when
+        store.execute("first", REQUEST, Optional::empty, this::createResponse);
+
+        //then
+        assertThat(executionCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("유효 시간이 지난 응답은 재사용하지 않는다.")
+    void evictExpired() {
+        //given
+        ReservationIdempotencyStore store = new ReservationIdempotencyStore(0, 10, 5000);
+        store.execute("key", REQUEST, Optional::empty, this::createResponse);
+
+        //when
+        store.execute("key", REQUEST, Optional::empty, this::createResponse);
+
+        //then
+        assertThat(executionCount.get()).isEqualTo(2);
+    }
+
+    private ReservationResponse createResponse() {
+        long id = executionCount.incrementAndGet();
+        return ReservationResponse.of(
+                id,
+                "다온",
+                "2024-05-03",
+                ReservationTimeResponse.of(1L, "12:00"),
+                ThemeResponse.of(1L, "방탈출1", "1번 방탈출", "썸네일1")
+        );
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package roomescape.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+import roomescape.cache.CachedReservationTimeDao;
+import roomescape.cache.CachedThemeDao;
+import roomescape.cache.SlotOccupancyIndex;
+import roomescape.dao.JdbcReservationTimeDao;
+import roomescape.dao.JdbcThemeDao;
+import roomescape.dto.reservation.ReservationCreateRequest;
+import roomescape.fixture.ReservationTimeFixtures;
+import roomescape.fixture.ThemeFixtures;
+import roomescape.service.ReservationService;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@Sql(value = "classpath:test_db_clean.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+class ReservationMetricsTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 2, 12, 2);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private ReservationService reservationService;
+    @Autowired
+    private JdbcReservationTimeDao reservationTimeDao;
+    @Autowired
+    private JdbcThemeDao themeDao;
+    @Autowired
+    private SlotOccupancyIndex slotOccupancyIndex;
+    @Autowired
+    private CachedThemeDao cachedThemeDao;
+    @Autowired
+    private CachedReservationTimeDao cachedReservationTimeDao;
+
+    @BeforeEach
+    void setUp() {
+        reservationTimeDao.create(ReservationTimeFixtures.createReservationTime("12:00"));
+        themeDao.create(ThemeFixtures.createDefaultTheme());
+        slotOccupancyIndex.clear();
+        cachedThemeDao.invalidate();
+        cachedReservationTimeDao.invalidate();
+    }
+
+    @Test
+    @DisplayName("예약 생성 성공과 중복 거절 횟수를 기록한다.")
+    void recordCreatedAndDuplicated() {
+        //given
+        double createdBefore = countReservations("created");
+        double duplicatedBefore = countReservations("duplicated");
+        ReservationCreateRequest request = ReservationCreateRequest.of("다온", "2024-05-03", 1L, 1L);
+
+        //when
+        reservationService.add(request, NOW);
+        assertThatThrownBy(() -> reservationService.add(request, NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        //then
+        assertAll(
+                () -> assertThat(countReservations("created") - createdBefore).isEqualTo(1),
+                () -> assertThat(countReservations("duplicated") - duplicatedBefore).isEqualTo(1)
+        );
+    }
+
+    @Test
+    @DisplayName("지나간 날짜의 예약 거절 횟수를 기록한다.")
+    void recordPast() {
+        //given
+        double pastBefore = countReservations("past");
+        ReservationCreateRequest request = ReservationCreateRequest.of("다온", "2024-05-01", 1L, 1L);
+
+        //when
+        assertThatThrownBy(() -> reservationService.add(request, NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        //then
+        assertThat(countReservations("past") - pastBefore).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서비스 메서드의 실행 시간을 클래스와 메서드별로 기록한다.")
+    void recordMethodTimer() {
+        //when
+        reservationService.findTimeByDateAndThemeID("2024-05-03", 1L, NOW);
+
+        //then
+        Timer timer = meterRegistry.find(MethodTimingAspect.TIMER_NAME)
+                .tags("class", "ReservationService", "method", "findTimeByDateAndThemeID", "exception", "none")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isPositive();
+    }
+
+    private double countReservations(String result) {
+        return meterRegistry.counter(ReservationMetrics.COUNTER_NAME, "result", result).count();
+    }
+}
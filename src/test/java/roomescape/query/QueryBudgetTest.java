@@ -0,0 +1,129 @@
+package roomescape.query;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static roomescape.query.QueryCountAssertions.assertStatementCountAtMost;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+import org.springframework.test.web.servlet.MockMvc;
+import roomescape.cache.CachedReservationTimeDao;
+import roomescape.cache.CachedThemeDao;
+import roomescape.cache.SlotOccupancyIndex;
+import roomescape.dao.JdbcReservationDao;
+import roomescape.dao.JdbcReservationTimeDao;
+import roomescape.dao.JdbcThemeDao;
+import roomescape.domain.reservationtime.ReservationTime;
+import roomescape.domain.theme.Theme;
+import roomescape.dto.reservation.ReservationCreateRequest;
+import roomescape.fixture.ReservationFixtures;
+import roomescape.fixture.ReservationTimeFixtures;
+import roomescape.fixture.ThemeFixtures;
+
+@SpringBootTest(
+        webEnvironment = WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:query-budget"
+)
+@AutoConfigureMockMvc
+@ActiveProfiles("debug")
+@Sql(value = "classpath:test_db_clean.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+class QueryBudgetTest {
+
+    private static final String TOMORROW = LocalDate.now(ZoneId.of("Asia/Seoul")).plusDays(1).toString();
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private QueryCounter queryCounter;
+    @Autowired
+    private JdbcReservationDao reservationDao;
+    @Autowired
+    private JdbcReservationTimeDao reservationTimeDao;
+    @Autowired
+    private JdbcThemeDao themeDao;
+    @Autowired
+    private SlotOccupancyIndex slotOccupancyIndex;
+    @Autowired
+    private CachedThemeDao cachedThemeDao;
+    @Autowired
+    private CachedReservationTimeDao cachedReservationTimeDao;
+
+    private Theme theme;
+    private ReservationTime time;
+
+    @BeforeEach
+    void setUp() {
+        theme = themeDao.create(ThemeFixtures.createDefaultTheme());
+        time = reservationTimeDao.create(ReservationTimeFixtures.createReservationTime("12:00"));
+        slotOccupancyIndex.clear();
+        cachedThemeDao.invalidate();
+        cachedReservationTimeDao.invalidate();
+    }
+
+    @Test
+    @DisplayName("예약 목록 조회는 예약 수와 관계없이 한 번의 쿼리로 처리한다.")
+    void readAll() throws Throwable {
+        //given
+        for (int day = 1; day <= 10; day++) {
+            reservationDao.create(ReservationFixtures.createReservation("2024-09-%02d".formatted(day), time, theme));
+        }
+
+        //when //then
+        assertStatementCountAtMost(queryCounter, 1, () -> mockMvc.perform(get("/reservations"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(QueryCountFilter.QUERY_COUNT_HEADER, "1")));
+    }
+
+    @Test
+    @DisplayName("예약 추가는 캐시가 비어있을 때도 세 번 이하의 쿼리로 처리한다.")
+    void create() throws Throwable {
+        //given
+        ReservationCreateRequest request = ReservationCreateRequest.of("다온", TOMORROW, time.getId(), theme.getId());
+        String requestBody = objectMapper.writeValueAsString(request);
+
+        //when //then
+        assertStatementCountAtMost(queryCounter, 3, () -> mockMvc.perform(post("/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isCreated())
+                .andExpect(header().exists(QueryCountFilter.SERVER_TIMING_HEADER)));
+    }
+
+    @Test
+    @DisplayName("이용 가능한 예약 시간 조회는 캐시가 비어있을 때도 세 번 이하의 쿼리로 처리한다.")
+    void readAvailableTimes() throws Throwable {
+        //when //then
+        assertStatementCountAtMost(queryCounter, 3, () -> mockMvc.perform(get("/reservations/available-times")
+                        .param("date", TOMORROW)
+                        .param("themeId", String.valueOf(theme.getId())))
+                .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("예약 취소는 두 번 이하의 쿼리로 처리한다.")
+    void deleteReservation() throws Throwable {
+        //given
+        reservationDao.create(ReservationFixtures.createReservation(TOMORROW, time, theme));
+
+        //when //then
+        assertStatementCountAtMost(queryCounter, 2, () -> mockMvc.perform(delete("/reservations/1"))
+                .andExpect(status().isNoContent()));
+    }
+}
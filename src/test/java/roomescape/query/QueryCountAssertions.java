@@ -0,0 +1,26 @@
+package roomescape.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+
+public class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    public static QueryCount assertStatementCountAtMost(QueryCounter queryCounter,
+                                                        long budget,
+                                                        ThrowingCallable action) throws Throwable {
+        QueryCount count = queryCounter.start();
+        try {
+            action.call();
+        } finally {
+            queryCounter.stop(count);
+        }
+        assertThat(count.getStatementCount())
+                .as("SQL 실행 횟수는 %d회 이하이어야 합니다.", budget)
+                .isLessThanOrEqualTo(budget);
+        return count;
+    }
+}
@@ -5,13 +5,21 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.springframework.test.context.jdbc.Sql.ExecutionPhase;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
 import org.springframework.test.context.jdbc.Sql;
+import roomescape.cache.CachedReservationTimeDao;
+import roomescape.cache.CachedThemeDao;
+import roomescape.cache.ThemeReservationCounter;
+import roomescape.dto.reservation.ReservationCreateRequest;
+import roomescape.dto.reservation.ReservationResponse;
 import roomescape.dto.theme.ThemeResponse;
 
 @SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
@@ -21,6 +29,21 @@ class PopularThemeTest {
 
     @Autowired
     private ThemeService themeService;
+    @Autowired
+    private ReservationService reservationService;
+    @Autowired
+    private ThemeReservationCounter themeReservationCounter;
+    @Autowired
+    private CachedThemeDao cachedThemeDao;
+    @Autowired
+    private CachedReservationTimeDao cachedReservationTimeDao;
+
+    @BeforeEach
+    void setUp() {
+        themeReservationCounter.clear();
+        cachedThemeDao.invalidate();
+        cachedReservationTimeDao.invalidate();
+    }
 
     @Test
     @DisplayName("시작일부터 종료일까지 예약이 많이된 상위 10개의 테마를 응답한다.")
@@ -50,4 +73,30 @@ class PopularThemeTest {
                 () -> assertThat(results.get(4).getId()).isSameAs(1L)
         );
     }
+
+    @Test
+    @DisplayName("예약 추가와 삭제가 인기 테마 순위에 반영된다.")
+    void findPopularsAfterAddAndDelete() {
+        //given
+        LocalDate startDate = LocalDate.of(2024, 4, 25);
+        LocalDate endDate = LocalDate.of(2024, 5, 1);
+        LocalDateTime now = LocalDateTime.of(2024, 4, 20, 12, 0);
+        themeService.findPopulars(startDate, endDate);
+        List<ReservationResponse> added = new ArrayList<>();
+        for (long timeId = 1; timeId <= 6; timeId++) {
+            added.add(reservationService.add(ReservationCreateRequest.of("다온", "2024-05-01", timeId, 12L), now));
+        }
+
+        //when
+        List<ThemeResponse> afterAdd = themeService.findPopulars(startDate, endDate);
+        reservationService.delete(added.get(0).getId());
+        List<ThemeResponse> afterDelete = themeService.findPopulars(startDate, endDate);
+
+        //then
+        assertAll(
+                () -> assertThat(afterAdd.get(0).getId()).isEqualTo(12L),
+                () -> assertThat(afterDelete.get(0).getId()).isEqualTo(5L),
+                () -> assertThat(afterDelete.get(1).getId()).isEqualTo(12L)
+        );
+    }
 }
@@ -0,0 +1,116 @@
+package roomescape.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+import roomescape.dao.JdbcReservationDao;
+import roomescape.dao.JdbcReservationTimeDao;
+import roomescape.dao.JdbcThemeDao;
+import roomescape.domain.reservation.ReservationExportFormat;
+import roomescape.domain.reservationtime.ReservationTime;
+import roomescape.domain.theme.Theme;
+import roomescape.fixture.ReservationFixtures;
+import roomescape.fixture.ReservationTimeFixtures;
+import roomescape.fixture.ThemeFixtures;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@Sql(value = "classpath:test_db_clean.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+class ReservationExportServiceTest {
+
+    @Autowired
+    private JdbcReservationDao reservationDao;
+    @Autowired
+    private JdbcReservationTimeDao reservationTimeDao;
+    @Autowired
+    private JdbcThemeDao themeDao;
+    @Autowired
+    private ReservationExportService reservationExportService;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        Theme theme = themeDao.create(ThemeFixtures.createDefaultTheme());
+        ReservationTime time = reservationTimeDao.create(ReservationTimeFixtures.createReservationTime("12:02"));
+        reservationDao.create(ReservationFixtures.createReservation("다온", "2024-09-01", time, theme));
+        reservationDao.create(ReservationFixtures.createReservation("익조, \"주\"", "2024-09-02", time, theme));
+    }
+
+    @Test
+    @DisplayName("전체 예약을 JSON 배열로 내보낸다.")
+    void exportJson() throws IOException {
+        //when
+        String result = export(ReservationExportFormat.JSON);
+
+        //then
+        JsonNode reservations = objectMapper.readTree(result);
+        assertAll(
+                () -> assertThat(reservations.isArray()).isTrue(),
+                () -> assertThat(reservations).hasSize(2),
+                () -> assertThat(reservations.get(0).get("name").asText()).isEqualTo("다온"),
+                () -> assertThat(reservations.get(1).get("time").get("startAt").asText()).isEqualTo("12:02")
+        );
+    }
+
+    @Test
+    @DisplayName("전체 예약을 한 줄에 하나씩 NDJSON으로 내보낸다.")
+    void exportNdjson() throws IOException {
+        //when
+        String result = export(ReservationExportFormat.NDJSON);
+
+        //then
+        String[] lines = result.split("\n");
+        assertAll(
+                () -> assertThat(lines).hasSize(2),
+                () -> assertThat(lines).allSatisfy(line -> assertThat(line).startsWith("{")),
+                () -> assertThat(objectMapper.readTree(lines[1]).get("date").asText()).isEqualTo("2024-09-02")
+        );
+    }
+
+    @Test
+    @DisplayName("전체 예약을 CSV로 내보내며 구분자가 포함된 값은 따옴표로 감싼다.")
+    void exportCsv() throws IOException {
+        //when
+        String result = export(ReservationExportFormat.CSV);
+
+        //then
+        String[] lines = result.split("\n");
+        assertAll(
+                () -> assertThat(lines).hasSize(3),
+                () -> assertThat(lines[0]).isEqualTo("id,name,date,time_id,start_at,theme_id,theme_name"),
+                () -> assertThat(lines[2]).contains("\"익조, \"\"주\"\"\",2024-09-02")
+        );
+    }
+
+    @Test
+    @DisplayName("내보내기 제한 시간을 넘기면 조회를 중단한다.")
+    void exportTimeout() {
+        //given
+        ReservationExportService exportService = new ReservationExportService(reservationDao, objectMapper, 0);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        //when //then
+        assertThatThrownBy(() -> exportService.export(ReservationExportFormat.NDJSON, outputStream))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private String export(ReservationExportFormat format) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        reservationExportService.export(format, outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -8,6 +8,12 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -19,18 +25,35 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+import roomescape.cache.CachedReservationTimeDao;
+import roomescape.cache.CachedThemeDao;
+import roomescape.cache.SlotOccupancyIndex;
 import roomescape.dao.JdbcReservationDao;
 import roomescape.dao.JdbcReservationTimeDao;
 import roomescape.dao.JdbcThemeDao;
 import roomescape.domain.reservation.Reservation;
+import roomescape.domain.reservation.ReservationSearchCondition;
 import roomescape.domain.reservationtime.ReservationTime;
 import roomescape.domain.theme.Theme;
 import roomescape.dto.reservation.AvailableReservationResponse;
+import roomescape.dto.reservation.AvailableThemeResponse;
+import roomescape.dto.reservation.AvailableThemeSearchRequest;
+import roomescape.dto.reservation.CompactReservationListResponse;
+import roomescape.dto.reservation.DailyAvailabilityResponse;
+import roomescape.dto.reservation.ReservationBatchCreateRequest;
+import roomescape.dto.reservation.ReservationBatchItemResponse;
+import roomescape.dto.reservation.ReservationBatchResponse;
+import roomescape.dto.reservation.ReservationCalendarRequest;
+import roomescape.dto.reservation.ReservationCalendarResponse;
 import roomescape.dto.reservation.ReservationCreateRequest;
 import roomescape.dto.reservation.ReservationResponse;
+import roomescape.dto.reservation.ReservationSearchRequest;
+import roomescape.dto.reservationtime.ReservationTimeResponse;
+import roomescape.dto.theme.ThemeResponse;
 import roomescape.fixture.ReservationFixtures;
 import roomescape.fixture.ReservationTimeFixtures;
 import roomescape.fixture.ThemeFixtures;
+import roomescape.hold.SlotHoldRegistry;
 
 @SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
 @Sql(value = "classpath:test_db_clean.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
@@ -44,6 +67,22 @@ class ReservationServiceTest {
     private JdbcThemeDao themeDao;
     @Autowired
     private ReservationService reservationService;
+    @Autowired
+    private SlotOccupancyIndex slotOccupancyIndex;
+    @Autowired
+    private SlotHoldRegistry slotHoldRegistry;
+    @Autowired
+    private CachedThemeDao cachedThemeDao;
+    @Autowired
+    private CachedReservationTimeDao cachedReservationTimeDao;
+
+    @BeforeEach
+    void setUp() {
+        slotOccupancyIndex.clear();
+        slotHoldRegistry.clear();
+        cachedThemeDao.invalidate();
+        cachedReservationTimeDao.invalidate();
+    }
 
     @Test
     @DisplayName("모든 예약 정보를 조회한다.")
@@ -58,13 +97,145 @@ class ReservationServiceTest {
         reservationDao.create(reservation2);
 
         //when
-        List<ReservationResponse> results = reservationService.findAll();
+        List<ReservationResponse> results = findAllReservations();
 
         //then
         assertThat(results).hasSize(2);
 
     }
 
+    @Test
+    @DisplayName("전체 예약 조회시 같은 테마와 시간은 하나의 객체를 공유한다.")
+    void readAllSharesThemeAndTime() {
+        //given
+        Theme theme = themeDao.create(ThemeFixtures.createDefaultTheme());
+        ReservationTime time = reservationTimeDao.create(ReservationTimeFixtures.createReservationTime("12:02"));
+        reservationDao.create(ReservationFixtures.createReservation("2024-09-01", time, theme));
+        reservationDao.create(ReservationFixtures.createReservation("2024-09-02", time, theme));
+
+        //when
+        List<Reservation> results = reservationDao.readAll(
+                ReservationSearchCondition.of(null, null, null, null, null, null)
+        );
+
+        //then
+        assertAll(
+                () -> assertThat(results).hasSize(2),
+                () -> assertThat(results.get(0).getTheme()).isSameAs(results.get(1).getTheme()),
+                () -> assertThat(results.get(0).getReservationTime()).isSameAs(results.get(1).getReservationTime())
+        );
+    }
+
+    @Test
+    @DisplayName("요청과 같은 이름으로 저장된 예약만 저장된 예약으로 찾는다.")
+    void findCreated() {
+        //given
+        Theme theme = themeDao.create(ThemeFixtures.createDefaultTheme());
+        ReservationTime time = reservationTimeDao.create(ReservationTimeFixtures.createReservationTime("12:02"));
+        Reservation created = reservationDao.create(
+                ReservationFixtures.createReservation("다온", "2024-09-01", time, theme)
+        );
+
+        //when
+        Optional<ReservationResponse> same = reservationService.findCreated(
+                ReservationCreateRequest.of("다온", "2024-09-01", time.getId(), theme.getId())
+        );
+        Optional<ReservationResponse> other = reservationService.findCreated(
+                ReservationCreateRequest.of("브라운", "2024-09-01", time.getId(), theme.getId())
+        );
+
+        //then
+        assertAll(
+                () -> assertThat(same).map(ReservationResponse::getId).contains(created.getId()),
+                () -> assertThat(other).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("마지막 예약 아이디 이후의 예약을 조회 크기만큼 조회한다.")
+    void findAllAfterLastId() {
+        //given
+        Theme theme = themeDao.create(ThemeFixtures.createDefaultTheme());
+        ReservationTime time = reservationTimeDao.create(ReservationTimeFixtures.createReservationTime("12:02"));
+        reservationDao.create(ReservationFixtures.createReservation("2024-09-01", time, theme));
+        reservationDao.create(ReservationFixtures.createReservation("2024-09-02", time, theme));
+        reservationDao.create(ReservationFixtures.createReservation("2024-09-03", time, theme));
+        ReservationSearchRequest request = ReservationSearchRequest.of(1L, 1, null, null, null, null);
+
+        //when
+        List<ReservationResponse> results = reservationService.findAll(request);
+
+        //then
+        assertAll(
+                () -> assertThat(results).hasSize(1),
+                () -> assertThat(results.get(0).getId()).isEqualTo(2L)
+        );
+    }
+
+    @Test
+    @DisplayName("압축 형식 조회시 참조된 테마와 시간을 한 번씩만 응답한다.")
+    void findAllCompact() {
+        //given
+        Theme theme = themeDao.create(ThemeFixtures.createDefaultTheme());
+        ReservationTime time1 = reservationTimeDao.create(ReservationTimeFixtures.createReservationTime("12:02"));
+        ReservationTime time2 = reservationTimeDao.create(ReservationTimeFixtures.createReservationTime("12:20"));
+        reservationDao.create(ReservationFixtures.createReservation("2024-09-01", time1, theme));
+        reservationDao.create(ReservationFixtures.createReservation("2024-09-02", time1, theme));
+        reservationDao.create(ReservationFixtures.createReservation("2024-09-02", time2, theme));
+        ReservationSearchRequest request = ReservationSearchRequest.of(null, null, null, null, null, null);
+
+        //when
+        CompactReservationListResponse result = reservationService.findAllCompact(request);
+
+        //then
+        assertAll(
+                () -> assertThat(result.getReservations()).hasSize(3),
+                () -> assertThat(result.getTimes()).extracting(ReservationTimeResponse::getId)
+                        .containsExactly(time1.getId(), time2.getId()),
+                () -> assertThat(result.getThemes()).extracting(ThemeResponse::getId)
+                        .containsExactly(theme.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("날짜 범위와 테마로 예약을 필터링하여 조회한다.")
+    void findAllByCondition() {
+        //given
+        Theme theme1 = themeDao.create(ThemeFixtures.createTheme("방탈출1", "방탈출 1번", "썸네일1"));
+        Theme theme2 = themeDao.create(ThemeFixtures.createTheme("방탈출2", "방탈출 2번", "썸네일2"));
+        ReservationTime time = reservationTimeDao.create(ReservationTimeFixtures.createReservationTime("12:02"));
+        reservationDao.create(ReservationFixtures.createReservation("2024-09-01", time, theme1));
+        reservationDao.create(ReservationFixtures.createReservation("2024-09-02", time, theme1));
+        reservationDao.create(ReservationFixtures.createReservation("2024-09-02", time, theme2));
+        reservationDao.create(ReservationFixtures.createReservation("2024-09-05", time, theme1));
+        ReservationSearchRequest request = ReservationSearchRequest.of(
+                null, null, "2024-09-02", "2024-09-04", theme1.getId(), null
+        );
+
+        //when
+        List<ReservationResponse> results = reservationService.findAll(request);
+
+        //then
+        assertAll(
+                () -> assertThat(results).hasSize(1),
+                () -> assertThat(results.get(0).getDate()).isEqualTo("2024-09-02"),
+                () -> assertThat(results.get(0).getTheme().getId()).isEqualTo(theme1.getId())
+        );
+    }
+
+    @Test
+    @DisplayName("조회 시작 날짜가 종료 날짜보다 늦으면 예외가 발생한다.")
+    void findAllByInvalidDateRange() {
+        //given
+        ReservationSearchRequest request = ReservationSearchRequest.of(
+                null, null, "2024-09-05", "2024-09-01", null, null
+        );
+
+        //when //then
+        assertThatThrownBy(() -> reservationService.findAll(request))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     @DisplayName("이용 가능한 예약 시간을 조회한다.")
     void findTimeByDateAndThemeId() {
@@ -92,6 +263,152 @@ class ReservationServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("예약 추가와 삭제가 이용 가능한 예약 시간 조회에 반영된다.")
+    void findTimeByDateAndThemeIdAfterAddAndDelete() {
+        //given
+        LocalDateTime now = LocalDateTime.of(2024, 5, 2, 12, 2);
+        String tomorrow = LocalDate.of(now.getYear(), now.getMonth(), now.getDayOfMonth()).plusDays(1).toString();
+        ReservationTime time = reservationTimeDao.create(ReservationTimeFixtures.createReservationTime("12:00"));
+        Theme theme = themeDao.create(ThemeFixtures.createDefaultTheme());
+        reservationService.findTimeByDateAndThemeID(tomorrow, theme.getId(), now);
+
+        //when
+        ReservationResponse added = reservationService.add(
+                ReservationCreateRequest.of("다온", tomorrow, time.getId(), theme.getId()), now
+        );
+        boolean bookedAfterAdd = reservationService.findTimeByDateAndThemeID(tomorrow, theme.getId(), now)
+                .get(0).isAlreadyBooked();
+        reservationService.delete(added.getId());
+        boolean bookedAfterDelete = reservationService.findTimeByDateAndThemeID(tomorrow, theme.getId(), now)
+                .get(0).isAlreadyBooked();
+
+        //then
+        assertAll(
+                () -> assertThat(bookedAfterAdd).isTrue(),
+                () -> assertThat(bookedAfterDelete).isFalse()
+        );
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 테마의 이용 가능한 예약 시간을 조회하면 예외가 발생한다.")
+    void findTimeByDateAndNotExistThemeId() {
+        //given
+        LocalDateTime now = LocalDateTime.of(2024, 5, 2, 12, 2);
+        reservationTimeDao.create(ReservationTimeFixtures.createReservationTime("12:00"));
+
+        //when //then
+        assertThatThrownBy(() -> reservationService.findTimeByDateAndThemeID("2024-05-03", 1L, now))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("캐시 기간을 벗어난 날짜의 예약 시간은 매번 저장소에서 조회한다.")
+    void findTimeByDateOutOfCachedDays() {
+        //given
+        LocalDateTime now = LocalDateTime.of(2024, 5, 2, 12, 2);
+        String farDate = "2025-05-02";
+        ReservationTime time = reservationTimeDao.create(ReservationTimeFixtures.createReservationTime("12:00"));
+        Theme theme = themeDao.create(ThemeFixtures.createDefaultTheme());
+        reservationService.findTimeByDateAndThemeID(farDate, theme.getId(), now);
+
+        //when
+        reservationDao.create(ReservationFixtures.createReservation(farDate, time, theme));
+        boolean booked = reservationService.findTimeByDateAndThemeID(farDate, theme.getId(), now)
+                .get(0).isAlreadyBooked();
+
+        //then
+        assertThat(booked).isTrue();
+    }
+
+    @Test
+    @DisplayName("날짜와 시간 범위에 예약 가능한 시간이 남은 테마를 조회한다.")
+    void findAvailableThemes() {
+        //given
+        LocalDateTime now = LocalDateTime.of(2024, 5, 2, 12, 10);
+        ReservationTime time1 = reservationTimeDao.create(ReservationTimeFixtures.createReservationTime("18:00"));
+        ReservationTime time2 = reservationTimeDao.create(ReservationTimeFixtures.createReservationTime("19:00"));
+        reservationTimeDao.create(ReservationTimeFixtures.createReservationTime("22:00"));
+        Theme fullTheme = themeDao.create(ThemeFixtures.createTheme("방탈출1", "1번 방탈출", "썸네일1"));
+        Theme partialTheme = themeDao.create(ThemeFixtures.createTheme("방탈출2", "2번 방탈출", "썸네일2"));
+        Theme emptyTheme = themeDao.create(ThemeFixtures.createTheme("방탈출3", "3번 방탈출", "썸네일3"));
+        reservationDao.create(ReservationFixtures.createReservation("2024-05-03", time1, fullTheme));
+        reservationDao.create(ReservationFixtures.createReservation("2024-05-03", time2, fullTheme));
+        reservationDao.create(ReservationFixtures.createReservation("2024-05-03", time1, partialTheme));
+        AvailableThemeSearchRequest request = AvailableThemeSearchRequest.of("2024-05-03", "17:00", "20:00");
+
+        //when
+        List<AvailableThemeResponse> responses = reservationService.findAvailableThemes(request, now);
+
+        //then
+        assertAll(
+                () -> assertThat(responses).extracting(response -> response.getTheme().getId())
+                        .containsExactly(partialTheme.getId(), emptyTheme.getId()),
+                () -> assertThat(responses.get(0).getTimes()).extracting(ReservationTimeResponse::getStartAt)
+                        .containsExactly("19:00"),
+                () -> assertThat(responses.get(1).getTimes()).hasSize(2)
+        );
+    }
+
+    @Test
+    @DisplayName("지나간 날짜에는 예약 가능한 테마가 없다.")
+    void findAvailableThemesByPastDate() {
+        //given
+        LocalDateTime now = LocalDateTime.of(2024, 5, 2, 12, 10);
+        reservationTimeDao.create(ReservationTimeFixtures.createReservationTime("18:00"));
+        themeDao.create(ThemeFixtures.createDefaultTheme());
+        AvailableThemeSearchRequest request = AvailableThemeSearchRequest.of("2024-05-01", null, null);
+
+        //when
+        List<AvailableThemeResponse> responses = reservationService.findAvailableThemes(request, now);
+
+        //then
+        assertThat(responses).isEmpty();
+    }
+
+    @Test
+    @DisplayName("테마의 월간 예약 가능 현황을 한 번에 조회한다.")
+    void findCalendar() {
+        //given
+        LocalDateTime now = LocalDateTime.of(2024, 5, 2, 12, 10);
+        ReservationTime time1 = reservationTimeDao.create(ReservationTimeFixtures.createReservationTime("12:00"));
+        ReservationTime time2 = reservationTimeDao.create(ReservationTimeFixtures.createReservationTime("13:00"));
+        Theme theme = themeDao.create(ThemeFixtures.createDefaultTheme());
+        reservationDao.create(ReservationFixtures.createReservation("2024-05-03", time2, theme));
+        reservationDao.create(ReservationFixtures.createReservation("2024-05-31", time1, theme));
+        reservationDao.create(ReservationFixtures.createReservation("2024-05-31", time2, theme));
+        ReservationCalendarRequest request = ReservationCalendarRequest.of(theme.getId(), "2024-05", null, null);
+
+        //when
+        ReservationCalendarResponse response = reservationService.findCalendar(request, now);
+        List<DailyAvailabilityResponse> days = response.getDays();
+
+        //then
+        assertAll(
+                () -> assertThat(response.getTimes()).hasSize(2),
+                () -> assertThat(days).hasSize(31),
+                () -> assertThat(days.get(0).getSlots()).isEqualTo("00"),
+                () -> assertThat(days.get(1).getSlots()).isEqualTo("01"),
+                () -> assertThat(days.get(2).getSlots()).isEqualTo("10"),
+                () -> assertThat(days.get(3).getAvailableCount()).isEqualTo(2),
+                () -> assertThat(days.get(30).getSlots()).isEqualTo("00")
+        );
+    }
+
+    @Test
+    @DisplayName("예약 가능 현황의 조회 기간이 너무 길면 예외가 발생한다.")
+    void findCalendarByTooLongPeriod() {
+        //given
+        Theme theme = themeDao.create(ThemeFixtures.createDefaultTheme());
+        ReservationCalendarRequest request = ReservationCalendarRequest.of(
+                theme.getId(), null, "2024-05-01", "2024-12-31"
+        );
+
+        //when //then
+        assertThatThrownBy(() -> reservationService.findCalendar(request, LocalDateTime.of(2024, 5, 1, 0, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Nested
     @DisplayName("예약 추가")
     class create {
@@ -119,7 +436,7 @@ class ReservationServiceTest {
             assertAll(
                     () -> assertThat(result.getName()).isEqualTo(givenName),
                     () -> assertThat(result.getDate()).isEqualTo(givenDate),
-                    () -> assertThat(reservationService.findAll()).hasSize(1)
+                    () -> assertThat(findAllReservations()).hasSize(1)
             );
         }
 
@@ -252,6 +569,137 @@ class ReservationServiceTest {
             assertThatThrownBy(() -> reservationService.add(request, now))
                     .isInstanceOf(IllegalArgumentException.class);
         }
+
+        @Test
+        @DisplayName("동일한 슬롯에 동시에 예약하면 하나의 예약만 성공한다.")
+        void createReservationConcurrently() throws InterruptedException {
+            //given
+            LocalDateTime now = LocalDateTime.of(2024, 5, 2, 12, 2);
+            LocalDate tomorrow = LocalDate.of(now.getYear(), now.getMonth(), now.getDayOfMonth()).plusDays(1);
+            reservationTimeDao.create(ReservationTimeFixtures.createReservationTime("12:00"));
+            themeDao.create(ThemeFixtures.createDefaultTheme());
+            ReservationCreateRequest request = ReservationCreateRequest.of("다온", tomorrow.toString(), 1L, 1L);
+            int requestCount = 2000;
+            ExecutorService executorService = Executors.newFixedThreadPool(32);
+            CountDownLatch latch = new CountDownLatch(requestCount);
+            AtomicInteger successCount = new AtomicInteger();
+            AtomicInteger duplicatedCount = new AtomicInteger();
+
+            //when
+            for (int i = 0; i < requestCount; i++) {
+                executorService.submit(() -> {
+                    try {
+                        reservationService.add(request, now);
+                        successCount.incrementAndGet();
+                    } catch (IllegalArgumentException e) {
+                        duplicatedCount.incrementAndGet();
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+            executorService.shutdown();
+
+            //then
+            assertAll(
+                    () -> assertThat(successCount.get()).isEqualTo(1),
+                    () -> assertThat(duplicatedCount.get()).isEqualTo(requestCount - 1),
+                    () -> assertThat(findAllReservations()).hasSize(1)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("예약 일괄 추가")
+    class addAll {
+        @Test
+        @DisplayName("모든 예약이 유효하면 한 번에 추가한다.")
+        void addAllReservations() {
+            //given
+            LocalDateTime now = LocalDateTime.of(2024, 5, 2, 12, 2);
+            ReservationTime time1 = reservationTimeDao.create(ReservationTimeFixtures.createReservationTime("13:00"));
+            ReservationTime time2 = reservationTimeDao.create(ReservationTimeFixtures.createReservationTime("14:00"));
+            Theme theme = themeDao.create(ThemeFixtures.createDefaultTheme());
+            ReservationBatchCreateRequest request = ReservationBatchCreateRequest.of("ALL_OR_NOTHING", List.of(
+                    ReservationCreateRequest.of("다온", "2024-05-03", time1.getId(), theme.getId()),
+                    ReservationCreateRequest.of("익조", "2024-05-03", time2.getId(), theme.getId())
+            ));
+
+            //when
+            ReservationBatchResponse response = reservationService.addAll(request, now);
+
+            //then
+            assertAll(
+                    () -> assertThat(response.getCreatedCount()).isEqualTo(2),
+                    () -> assertThat(response.getResults()).allMatch(ReservationBatchItemResponse::isCreated),
+                    () -> assertThat(findAllReservations()).hasSize(2)
+            );
+        }
+
+        @Test
+        @DisplayName("ALL_OR_NOTHING 방식에서 하나라도 실패하면 아무 예약도 추가하지 않는다.")
+        void addAllWithFailureInAllOrNothing() {
+            //given
+            LocalDateTime now = LocalDateTime.of(2024, 5, 2, 12, 2);
+            ReservationTime time = reservationTimeDao.create(ReservationTimeFixtures.createReservationTime("13:00"));
+            Theme theme = themeDao.create(ThemeFixtures.createDefaultTheme());
+            reservationDao.create(ReservationFixtures.createReservation("2024-05-04", time, theme));
+            ReservationBatchCreateRequest request = ReservationBatchCreateRequest.of("ALL_OR_NOTHING", List.of(
+                    ReservationCreateRequest.of("다온", "2024-05-03", time.getId(), theme.getId()),
+                    ReservationCreateRequest.of("익조", "2024-05-04", time.getId(), theme.getId())
+            ));
+
+            //when
+            ReservationBatchResponse response = reservationService.addAll(request, now);
+
+            //then
+            assertAll(
+                    () -> assertThat(response.getCreatedCount()).isZero(),
+                    () -> assertThat(response.getResults().get(1).getMessage()).isEqualTo("중복된 예약을 생성할 수 없습니다."),
+                    () -> assertThat(findAllReservations()).hasSize(1)
+            );
+        }
+
+        @Test
+        @DisplayName("BEST_EFFORT 방식에서는 유효한 예약만 추가하고 항목별 결과를 응답한다.")
+        void addAllInBestEffort() {
+            //given
+            LocalDateTime now = LocalDateTime.of(2024, 5, 2, 12, 2);
+            ReservationTime time = reservationTimeDao.create(ReservationTimeFixtures.createReservationTime("13:00"));
+            Theme theme = themeDao.create(ThemeFixtures.createDefaultTheme());
+            ReservationBatchCreateRequest request = ReservationBatchCreateRequest.of("BEST_EFFORT", List.of(
+                    ReservationCreateRequest.of("다온", "2024-05-03", time.getId(), theme.getId()),
+                    ReservationCreateRequest.of("익조", "2024-05-03", time.getId(), theme.getId()),
+                    ReservationCreateRequest.of("브라운", "2024-05-01", time.getId(), theme.getId()),
+                    ReservationCreateRequest.of("솔라", "2024-05-04", time.getId(), 100L)
+            ));
+
+            //when
+            ReservationBatchResponse response = reservationService.addAll(request, now);
+
+            //then
+            assertAll(
+                    () -> assertThat(response.getCreatedCount()).isEqualTo(1),
+                    () -> assertThat(response.getFailedCount()).isEqualTo(3),
+                    () -> assertThat(response.getResults()).extracting(ReservationBatchItemResponse::isCreated)
+                            .containsExactly(true, false, false, false),
+                    () -> assertThat(findAllReservations()).hasSize(1)
+            );
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 일괄 예약 방식이면 예외가 발생한다.")
+        void addAllByInvalidMode() {
+            //given
+            ReservationBatchCreateRequest request = ReservationBatchCreateRequest.of("SOMETIMES", List.of(
+                    ReservationCreateRequest.of("다온", "2024-05-03", 1L, 1L)
+            ));
+
+            //when //then
+            assertThatThrownBy(() -> reservationService.addAll(request, LocalDateTime.of(2024, 5, 2, 12, 2)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
     }
 
     @Nested
@@ -272,7 +720,7 @@ class ReservationServiceTest {
 
             //when
             reservationService.delete(givenId);
-            List<ReservationResponse> results = reservationService.findAll();
+            List<ReservationResponse> results = findAllReservations();
 
             //then
             assertThat(results).isEmpty();
@@ -314,4 +762,8 @@ class ReservationServiceTest {
                     .isInstanceOf(IllegalArgumentException.class);
         }
     }
+
+    private List<ReservationResponse> findAllReservations() {
+        return reservationService.findAll(ReservationSearchRequest.of(null, null, null, null, null, null));
+    }
 }
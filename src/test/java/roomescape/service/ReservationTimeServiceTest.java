@@ -5,22 +5,30 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+import roomescape.cache.CachedReservationTimeDao;
 import roomescape.dao.JdbcReservationDao;
 import roomescape.dao.JdbcReservationTimeDao;
 import roomescape.dao.JdbcThemeDao;
 import roomescape.domain.reservation.Reservation;
 import roomescape.domain.reservationtime.ReservationTime;
 import roomescape.domain.theme.Theme;
+import roomescape.dto.reservationtime.ReservationTimeBulkCreateRequest;
 import roomescape.dto.reservationtime.ReservationTimeCreateRequest;
 import roomescape.dto.reservationtime.ReservationTimeResponse;
 import roomescape.fixture.ReservationFixtures;
@@ -39,6 +47,13 @@ class ReservationTimeServiceTest {
     private JdbcThemeDao themeDao;
     @Autowired
     private ReservationTimeService reservationTimeService;
+    @Autowired
+    private CachedReservationTimeDao cachedReservationTimeDao;
+
+    @BeforeEach
+    void setUp() {
+        cachedReservationTimeDao.invalidate();
+    }
 
     @Test
     @DisplayName("모든 예약 시간 정보를 조회한다.")
@@ -60,6 +75,30 @@ class ReservationTimeServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("예약 시간 추가와 삭제가 시작 시간 순으로 정렬된 예약 시간 목록에 반영된다.")
+    void findAllAfterAddAndDelete() {
+        //given
+        reservationTimeDao.create(ReservationTimeFixtures.createReservationTime("13:00"));
+        reservationTimeService.findAll();
+
+        //when
+        ReservationTimeResponse added = reservationTimeService.add(
+                ReservationTimeFixtures.createReservationTimeCreateRequest("11:00")
+        );
+        List<ReservationTimeResponse> afterAdd = reservationTimeService.findAll();
+        reservationTimeService.delete(added.getId());
+        List<ReservationTimeResponse> afterDelete = reservationTimeService.findAll();
+
+        //then
+        assertAll(
+                () -> assertThat(afterAdd).extracting(ReservationTimeResponse::getStartAt)
+                        .containsExactly("11:00", "13:00"),
+                () -> assertThat(afterDelete).extracting(ReservationTimeResponse::getStartAt)
+                        .containsExactly("13:00")
+        );
+    }
+
     @Nested
     @DisplayName("예약 시간 추가")
     class create {
@@ -105,6 +144,100 @@ class ReservationTimeServiceTest {
             assertThatThrownBy(() -> reservationTimeService.add(request))
                     .isInstanceOf(IllegalArgumentException.class);
         }
+
+        @Test
+        @DisplayName("동시에 같은 예약 시간을 추가하면 하나만 추가되고 나머지는 중복 예외가 발생한다.")
+        void createReservationTimeConcurrently() throws InterruptedException {
+            //given
+            ReservationTimeCreateRequest request = ReservationTimeFixtures.createReservationTimeCreateRequest("12:02");
+            int requestCount = 100;
+            ExecutorService executorService = Executors.newFixedThreadPool(16);
+            CountDownLatch latch = new CountDownLatch(requestCount);
+            AtomicInteger successCount = new AtomicInteger();
+            AtomicInteger duplicatedCount = new AtomicInteger();
+
+            //when
+            for (int i = 0; i < requestCount; i++) {
+                executorService.submit(() -> {
+                    try {
+                        reservationTimeService.add(request);
+                        successCount.incrementAndGet();
+                    } catch (IllegalArgumentException e) {
+                        duplicatedCount.incrementAndGet();
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+            executorService.shutdown();
+
+            //then
+            assertAll(
+                    () -> assertThat(successCount.get()).isEqualTo(1),
+                    () -> assertThat(duplicatedCount.get()).isEqualTo(requestCount - 1),
+                    () -> assertThat(reservationTimeService.findAll()).hasSize(1)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("예약 시간 일괄 추가")
+    class createAll {
+        @Test
+        @DisplayName("일정 간격의 예약 시간 중 이미 존재하는 시간을 제외하고 추가한다.")
+        void addAll() {
+            //given
+            reservationTimeDao.create(ReservationTimeFixtures.createReservationTime("10:30"));
+            ReservationTimeBulkCreateRequest request = ReservationTimeBulkCreateRequest.of("10:00", "12:00", 30);
+
+            //when
+            List<ReservationTimeResponse> results = reservationTimeService.addAll(request);
+
+            //then
+            assertAll(
+                    () -> assertThat(results).extracting(ReservationTimeResponse::getStartAt)
+                            .containsExactly("10:00", "11:00", "11:30", "12:00"),
+                    () -> assertThat(reservationTimeService.findAll()).hasSize(5)
+            );
+        }
+
+        @Test
+        @DisplayName("자정을 넘어가는 시간은 추가하지 않는다.")
+        void addAllUntilMidnight() {
+            //given
+            ReservationTimeBulkCreateRequest request = ReservationTimeBulkCreateRequest.of("22:00", "23:59", 60);
+
+            //when
+            List<ReservationTimeResponse> results = reservationTimeService.addAll(request);
+
+            //then
+            assertThat(results).extracting(ReservationTimeResponse::getStartAt)
+                    .containsExactly("22:00", "23:00");
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {0, 4, 721})
+        @DisplayName("시간 간격이 허용 범위를 벗어나면 예외가 발생한다.")
+        void addAllByInvalidInterval(int given) {
+            //given
+            ReservationTimeBulkCreateRequest request = ReservationTimeBulkCreateRequest.of("10:00", "12:00", given);
+
+            //when //then
+            assertThatThrownBy(() -> reservationTimeService.addAll(request))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("시작 시간이 종료 시간보다 늦으면 예외가 발생한다.")
+        void addAllByInvalidRange() {
+            //given
+            ReservationTimeBulkCreateRequest request = ReservationTimeBulkCreateRequest.of("13:00", "12:00", 30);
+
+            //when //then
+            assertThatThrownBy(() -> reservationTimeService.addAll(request))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
     }
 
     @Nested
@@ -161,8 +294,12 @@ class ReservationTimeServiceTest {
             reservationDao.create(reservation);
 
             //when //then
-            assertThatThrownBy(() -> reservationTimeService.delete(1L))
-                    .isInstanceOf(IllegalArgumentException.class);
+            assertAll(
+                    () -> assertThatThrownBy(() -> reservationTimeService.delete(1L))
+                            .isInstanceOf(IllegalArgumentException.class)
+                            .hasMessage("해당 예약시간을 사용하는 예약이 존재합니다."),
+                    () -> assertThat(reservationTimeService.findAll()).hasSize(1)
+            );
         }
     }
 }
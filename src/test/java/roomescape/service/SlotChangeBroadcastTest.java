@@ -0,0 +1,102 @@
+package roomescape.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+import roomescape.cache.CachedReservationTimeDao;
+import roomescape.cache.CachedThemeDao;
+import roomescape.cache.SlotOccupancyIndex;
+import roomescape.dao.JdbcReservationTimeDao;
+import roomescape.dao.JdbcThemeDao;
+import roomescape.domain.reservationtime.ReservationTime;
+import roomescape.domain.theme.Theme;
+import roomescape.dto.reservation.ReservationCreateRequest;
+import roomescape.event.SlotChangeBroadcaster;
+import roomescape.fixture.ReservationTimeFixtures;
+import roomescape.fixture.ThemeFixtures;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@Sql(value = "classpath:test_db_clean.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+class SlotChangeBroadcastTest {
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private ReservationService reservationService;
+    @Autowired
+    private SlotChangeBroadcaster slotChangeBroadcaster;
+    @Autowired
+    private JdbcReservationTimeDao reservationTimeDao;
+    @Autowired
+    private JdbcThemeDao themeDao;
+    @Autowired
+    private SlotOccupancyIndex slotOccupancyIndex;
+    @Autowired
+    private CachedThemeDao cachedThemeDao;
+    @Autowired
+    private CachedReservationTimeDao cachedReservationTimeDao;
+
+    @BeforeEach
+    void setUp() {
+        slotOccupancyIndex.clear();
+        cachedThemeDao.invalidate();
+        cachedReservationTimeDao.invalidate();
+    }
+
+    @Test
+    @DisplayName("예약을 추가하면 같은 날짜와 테마의 구독자에게 예약 변경 이벤트를 보낸다.")
+    void publishBookedEvent() throws Exception {
+        //given
+        LocalDateTime now = LocalDateTime.of(2024, 5, 2, 12, 2);
+        ReservationTime time = reservationTimeDao.create(ReservationTimeFixtures.createReservationTime("12:00"));
+        Theme theme = themeDao.create(ThemeFixtures.createDefaultTheme());
+        HttpRequest request = HttpRequest.newBuilder(URI.create(
+                "http://localhost:" + port + "/reservations/slot-events?date=2024-05-03&themeId=" + theme.getId()
+        )).build();
+        CompletableFuture<String> firstEvent = HttpClient.newHttpClient()
+                .sendAsync(request, BodyHandlers.ofLines())
+                .thenApply(response -> response.body()
+                        .filter(line -> line.startsWith("data:"))
+                        .findFirst()
+                        .orElseThrow());
+        waitForSubscriber();
+
+        //when
+        reservationService.add(ReservationCreateRequest.of("다온", "2024-05-03", time.getId(), theme.getId()), now);
+        String event = firstEvent.get(5, TimeUnit.SECONDS);
+
+        //then
+        assertThat(event).contains("\"timeId\":" + time.getId(), "\"alreadyBooked\":true");
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 테마의 예약 변경 이벤트를 구독하면 예외가 발생한다.")
+    void subscribeNotExistTheme() {
+        //when //then
+        assertThatThrownBy(() -> reservationService.subscribeSlotChanges("2024-05-03", 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void waitForSubscriber() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+        while (slotChangeBroadcaster.countSubscribers() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package roomescape.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+import roomescape.cache.CachedReservationTimeDao;
+import roomescape.cache.CachedThemeDao;
+import roomescape.cache.SlotOccupancyIndex;
+import roomescape.dao.JdbcReservationTimeDao;
+import roomescape.dao.JdbcThemeDao;
+import roomescape.dto.reservation.AvailableReservationResponse;
+import roomescape.dto.reservation.ReservationCreateRequest;
+import roomescape.dto.reservation.ReservationResponse;
+import roomescape.dto.reservation.SlotHoldCreateRequest;
+import roomescape.dto.reservation.SlotHoldResponse;
+import roomescape.fixture.ReservationTimeFixtures;
+import roomescape.fixture.ThemeFixtures;
+import roomescape.hold.SlotHoldRegistry;
+
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@Sql(value = "classpath:test_db_clean.sql", executionPhase = ExecutionPhase.BEFORE_TEST_METHOD)
+class SlotHoldServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 2, 12, 2);
+    private static final SlotHoldCreateRequest HOLD_REQUEST = SlotHoldCreateRequest.of("2024-05-03", 1L, 1L);
+
+    @Autowired
+    private SlotHoldService slotHoldService;
+    @Autowired
+    private ReservationService reservationService;
+    @Autowired
+    private SlotHoldRegistry slotHoldRegistry;
+    @Autowired
+    private JdbcReservationTimeDao reservationTimeDao;
+    @Autowired
+    private JdbcThemeDao themeDao;
+    @Autowired
+    private SlotOccupancyIndex slotOccupancyIndex;
+    @Autowired
+    private CachedThemeDao cachedThemeDao;
+    @Autowired
+    private CachedReservationTimeDao cachedReservationTimeDao;
+
+    @BeforeEach
+    void setUp() {
+        reservationTimeDao.create(ReservationTimeFixtures.createReservationTime("12:00"));
+        themeDao.create(ThemeFixtures.createDefaultTheme());
+        slotHoldRegistry.clear();
+        slotOccupancyIndex.clear();
+        cachedThemeDao.invalidate();
+        cachedReservationTimeDao.invalidate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        slotHoldRegistry.clear();
+    }
+
+    @Test
+    @DisplayName("선점한 시간은 예약 가능 시간 조회에서 예약된 시간으로 보인다.")
+    void holdIsBookedInAvailability() {
+        //given
+        slotHoldService.hold(HOLD_REQUEST, NOW);
+
+        //when
+        List<AvailableReservationResponse> results = reservationService.findTimeByDateAndThemeID(
+                "2024-05-03", 1L, NOW
+        );
+
+        //then
+        assertThat(results).extracting(AvailableReservationResponse::isAlreadyBooked)
+                .containsExactly(true);
+    }
+
+    @Test
+    @DisplayName("다른 사용자가 선점한 시간은 선점하거나 예약할 수 없다.")
+    void rejectHeldSlot() {
+        //given
+        slotHoldService.hold(HOLD_REQUEST, NOW);
+        ReservationCreateRequest request = ReservationCreateRequest.of("다온", "2024-05-03", 1L, 1L);
+
+        //when //then
+        assertAll(
+                () -> assertThatThrownBy(() -> slotHoldService.hold(HOLD_REQUEST, NOW))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage("다른 사용자가 예약 중인 시간입니다."),
+                () -> assertThatThrownBy(() -> reservationService.add(request, NOW))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage("다른 사용자가 예약 중인 시간입니다.")
+        );
+    }
+
+    @Test
+    @DisplayName("선점 토큰으로 예약하면 예약이 생성되고 선점이 해제된다.")
+    void addWithHoldToken() {
+        //given
+        SlotHoldResponse hold = slotHoldService.hold(HOLD_REQUEST, NOW);
+        ReservationCreateRequest request = ReservationCreateRequest.of(
+                "다온", "2024-05-03", 1L, 1L, hold.getToken()
+        );
+
+        //when
+        ReservationResponse result = reservationService.add(request, NOW);
+
+        //then
+        assertAll(
+                () -> assertThat(result.getName()).isEqualTo("다온"),
+                () -> assertThat(slotHoldRegistry.findByToken(hold.getToken())).isEmpty()
+        );
+    }
+
+    @Test
+    @DisplayName("선점 시간이 지나면 다른 사용자가 예약할 수 있다.")
+    void addAfterHoldExpired() {
+        //given
+        slotHoldService.hold(HOLD_REQUEST, NOW);
+        LocalDateTime afterExpiration = NOW.plusMinutes(5);
+        ReservationCreateRequest request = ReservationCreateRequest.of("다온", "2024-05-03", 1L, 1L);
+
+        //when
+        ReservationResponse result = reservationService.add(request, afterExpiration);
+
+        //then
+        assertThat(result.getName()).isEqualTo("다온");
+    }
+
+    @Test
+    @DisplayName("이미 예약된 시간은 선점할 수 없다.")
+    void holdBookedSlot() {
+        //given
+        reservationService.add(ReservationCreateRequest.of("다온", "2024-05-03", 1L, 1L), NOW);
+
+        //when //then
+        assertThatThrownBy(() -> slotHoldService.hold(HOLD_REQUEST, NOW))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이미 예약된 시간입니다.");
+    }
+
+    @Test
+    @DisplayName("선점을 해제하면 다시 선점할 수 있다.")
+    void release() {
+        //given
+        SlotHoldResponse hold = slotHoldService.hold(HOLD_REQUEST, NOW);
+
+        //when
+        slotHoldService.release(hold.getToken());
+
+        //then
+        assertThat(slotHoldService.hold(HOLD_REQUEST, NOW).getToken()).isNotEqualTo(hold.getToken());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 선점 토큰은 해제할 수 없다.")
+    void releaseUnknownToken() {
+        //when //then
+        assertThatThrownBy(() -> slotHoldService.release("unknown"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
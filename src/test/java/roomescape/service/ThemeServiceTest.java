@@ -5,6 +5,11 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -15,10 +20,16 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.context.jdbc.Sql.ExecutionPhase;
+import roomescape.cache.CachedThemeDao;
+import roomescape.dao.JdbcReservationDao;
+import roomescape.dao.JdbcReservationTimeDao;
 import roomescape.dao.JdbcThemeDao;
+import roomescape.domain.reservationtime.ReservationTime;
 import roomescape.domain.theme.Theme;
 import roomescape.dto.theme.ThemeCreateRequest;
 import roomescape.dto.theme.ThemeResponse;
+import roomescape.fixture.ReservationFixtures;
+import roomescape.fixture.ReservationTimeFixtures;
 import roomescape.fixture.ThemeFixtures;
 
 @SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
@@ -28,7 +39,18 @@ class ThemeServiceTest {
     @Autowired
     private JdbcThemeDao themeDao;
     @Autowired
+    private JdbcReservationTimeDao reservationTimeDao;
+    @Autowired
+    private JdbcReservationDao reservationDao;
+    @Autowired
     private ThemeService themeService;
+    @Autowired
+    private CachedThemeDao cachedThemeDao;
+
+    @BeforeEach
+    void setUp() {
+        cachedThemeDao.invalidate();
+    }
 
     @Test
     @DisplayName("모든 테마 정보를 조회한다.")
@@ -52,6 +74,30 @@ class ThemeServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("테마 조회는 캐시된 테마 목록을 사용하고, 테마 추가 시 캐시가 무효화된다.")
+    void findAllFromCache() {
+        //given
+        themeDao.create(ThemeFixtures.createTheme("방탈출1", "방탈출 1번", "섬네일1"));
+        themeService.findAll();
+        long hitCountBefore = cachedThemeDao.getStatistics().getHitCount();
+        long evictionCountBefore = cachedThemeDao.getStatistics().getEvictionCount();
+
+        //when
+        List<ThemeResponse> cached = themeService.findAll();
+        themeService.add(ThemeFixtures.createThemeCreateRequest("방탈출2", "방탈출 2번", "섬네일2"));
+        List<ThemeResponse> reloaded = themeService.findAll();
+
+        //then
+        assertAll(
+                () -> assertThat(cached).hasSize(1),
+                () -> assertThat(reloaded).hasSize(2),
+                () -> assertThat(cachedThemeDao.getStatistics().getHitCount()).isGreaterThan(hitCountBefore),
+                () -> assertThat(cachedThemeDao.getStatistics().getEvictionCount())
+                        .isEqualTo(evictionCountBefore + 1)
+        );
+    }
+
     @Test
     @DisplayName("테마를 추가한다.")
     void add() {
@@ -126,6 +172,41 @@ class ThemeServiceTest {
                 .isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    @DisplayName("동시에 같은 테마명으로 추가하면 하나만 추가되고 나머지는 중복 예외가 발생한다.")
+    void createThemeConcurrently() throws InterruptedException {
+        //given
+        ThemeCreateRequest request = ThemeFixtures.createThemeCreateRequest("방탈출1", "1번 방탈출", "썸네일1");
+        int requestCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger duplicatedCount = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < requestCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    themeService.add(request);
+                    successCount.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    duplicatedCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        //then
+        assertAll(
+                () -> assertThat(successCount.get()).isEqualTo(1),
+                () -> assertThat(duplicatedCount.get()).isEqualTo(requestCount - 1),
+                () -> assertThat(themeService.findAll()).hasSize(1)
+        );
+    }
+
     @Test
     @DisplayName("테마를 삭제한다.")
     void delete() {
@@ -167,4 +248,21 @@ class ThemeServiceTest {
         assertThatThrownBy(() -> themeService.delete(givenId))
                 .isInstanceOf(IllegalArgumentException.class);
     }
+
+    @Test
+    @DisplayName("테마를 사용하는 예약이 존재하면 테마를 삭제하지 않고 예외가 발생한다.")
+    void deleteThemeWhenReservationExist() {
+        //given
+        Theme theme = themeDao.create(ThemeFixtures.createDefaultTheme());
+        ReservationTime time = reservationTimeDao.create(ReservationTimeFixtures.createReservationTime("12:02"));
+        reservationDao.create(ReservationFixtures.createReservation("다온", "2024-05-02", time, theme));
+
+        //when //then
+        assertAll(
+                () -> assertThatThrownBy(() -> themeService.delete(theme.getId()))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage("해당 테마를 사용하는 예약이 존재합니다."),
+                () -> assertThat(themeService.findAll()).hasSize(1)
+        );
+    }
 }
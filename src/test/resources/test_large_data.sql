@@ -0,0 +1,16 @@
+INSERT INTO reservation_time
+    (start_at)
+SELECT CAST(DATEADD('MINUTE', X * 30, TIMESTAMP '2024-01-01 10:00:00') AS TIME)
+FROM SYSTEM_RANGE(0, 23);
+
+INSERT INTO theme
+    (name, description, thumbnail)
+SELECT CONCAT('방탈출', X), CONCAT(X, '번 방탈출'), 'https://i.pinimg.com/236x/6e/bc/46/6ebc461a94a49f9ea3b8bbe2204145d4.jpg'
+FROM SYSTEM_RANGE(1, 50);
+
+INSERT INTO reservation
+    (name, date, time_id, theme_id)
+SELECT '다온', DATEADD('DAY', X / 1200, DATE '2024-01-01'), MOD(X / 50, 24) + 1, MOD(X, 50) + 1
+FROM SYSTEM_RANGE(0, 59999);
+
+ANALYZE;